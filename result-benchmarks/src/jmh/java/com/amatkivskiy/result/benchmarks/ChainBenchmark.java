@@ -0,0 +1,117 @@
+package com.amatkivskiy.result.benchmarks;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.Transformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures chaining and consuming {@link Result} on both the success and the failure path, using plain code
+ * as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+  private static final Transformer<Integer, Integer> INCREMENT = new Transformer<Integer, Integer>() {
+    @Override public Integer apply(Integer value) {
+      return value + 1;
+    }
+  };
+
+  private static final Transformer<Result<Integer, String>, Result<Integer, String>> CHECK_POSITIVE =
+      new Transformer<Result<Integer, String>, Result<Integer, String>>() {
+        @Override public Result<Integer, String> apply(Result<Integer, String> result) {
+          if (result.isSuccess() && result.value() > 0) {
+            return result;
+          }
+          return Result.failure("not positive");
+        }
+      };
+
+  // Outside the Integer cache, so every value boxed along a chain is a real allocation.
+  private int input = 1000;
+  private Result<Integer, String> success = Result.success(1000);
+  private Result<Integer, String> failure = Result.failure("error");
+  private Object consumed;
+
+  private final Consumer<Integer> valueConsumer = new Consumer<Integer>() {
+    @Override public void accept(Integer value) {
+      consumed = value;
+    }
+  };
+
+  private final Consumer<String> errorConsumer = new Consumer<String>() {
+    @Override public void accept(String value) {
+      consumed = value;
+    }
+  };
+
+  @Benchmark public int plainMap5() {
+    int value = input;
+    value = value + 1;
+    value = value + 1;
+    value = value + 1;
+    value = value + 1;
+    value = value + 1;
+    return value;
+  }
+
+  @Benchmark public Result<Integer, String> successMap5() {
+    return map5(success);
+  }
+
+  @Benchmark public Result<Integer, String> failureMap5() {
+    return map5(failure);
+  }
+
+  @Benchmark public Result<Integer, String> successFlatMap() {
+    return success.flatMap(CHECK_POSITIVE);
+  }
+
+  @Benchmark public Result<Integer, String> failureFlatMap() {
+    return failure.flatMap(CHECK_POSITIVE);
+  }
+
+  @Benchmark public Integer successOr() {
+    return success.or(-1);
+  }
+
+  @Benchmark public Integer failureOr() {
+    return failure.or(-1);
+  }
+
+  @Benchmark public Object successOnSuccessOnFailure() {
+    success.onSuccess(valueConsumer)
+        .onFailure(errorConsumer);
+    return consumed;
+  }
+
+  @Benchmark public Object failureOnSuccessOnFailure() {
+    failure.onSuccess(valueConsumer)
+        .onFailure(errorConsumer);
+    return consumed;
+  }
+
+  private static Result<Integer, String> map5(Result<Integer, String> result) {
+    return result.map(INCREMENT)
+        .map(INCREMENT)
+        .map(INCREMENT)
+        .map(INCREMENT)
+        .map(INCREMENT);
+  }
+}
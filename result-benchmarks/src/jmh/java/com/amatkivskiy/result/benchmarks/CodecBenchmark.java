@@ -0,0 +1,75 @@
+package com.amatkivskiy.result.benchmarks;
+
+import com.amatkivskiy.result.PayloadCodecs;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.ResultCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ResultCodec} on a direct buffer. Encoding is expected to report zero {@code bytes/op}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+  private static final int BATCH_SIZE = 100;
+
+  private final ResultCodec<Long, String> codec = new ResultCodec<>(PayloadCodecs.LONG, PayloadCodecs.STRING);
+  private final Result<Long, String> success = Result.success(123456789L);
+  private final Result<Long, String> failure = Result.failure("Connection refused.");
+  private final List<Result<Long, String>> batch = new ArrayList<>(BATCH_SIZE);
+
+  private ByteBuffer buffer;
+  private ByteBuffer encodedBatch;
+
+  @Setup public void setup() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(i % 10 == 0 ? failure : success);
+    }
+    buffer = ByteBuffer.allocateDirect(codec.size(batch));
+    encodedBatch = ByteBuffer.allocateDirect(codec.size(batch));
+    codec.encodeAll(batch, encodedBatch);
+    encodedBatch.flip();
+  }
+
+  @Benchmark public int encodeSuccess() {
+    buffer.clear();
+    codec.encode(success, buffer);
+    return buffer.position();
+  }
+
+  @Benchmark public int encodeFailure() {
+    buffer.clear();
+    codec.encode(failure, buffer);
+    return buffer.position();
+  }
+
+  @Benchmark public int encodeBatch() {
+    buffer.clear();
+    codec.encodeAll(batch, buffer);
+    return buffer.position();
+  }
+
+  @Benchmark public List<Result<Long, String>> decodeBatch() {
+    encodedBatch.rewind();
+    return codec.decodeAll(encodedBatch);
+  }
+}
@@ -0,0 +1,76 @@
+package com.amatkivskiy.result.benchmarks;
+
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.Result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing {@link Result} through each of the static factories.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreationBenchmark {
+  private String value = "value";
+  private String error = "error";
+  private String number = "12345";
+  private String invalidNumber = "invalid";
+
+  private final Function<Integer> parse = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return Integer.parseInt(number);
+    }
+  };
+
+  private final Function<Integer> parseInvalid = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return Integer.parseInt(invalidNumber);
+    }
+  };
+
+  @Benchmark public Result<String, String> success() {
+    return Result.success(value);
+  }
+
+  @Benchmark public Result<String, String> successNull() {
+    return Result.success(null);
+  }
+
+  @Benchmark public Result<String, String> failure() {
+    return Result.failure(error);
+  }
+
+  @Benchmark public Result<String, String> ofValue() {
+    return Result.of(value);
+  }
+
+  @Benchmark public Result<Integer, Exception> ofFunctionSuccess() {
+    return Result.of(parse);
+  }
+
+  @Benchmark public Result<Integer, Exception> ofFunctionThrowing() {
+    return Result.of(parseInvalid);
+  }
+
+  @Benchmark public Result<Integer, String> orFailWithThrowing() {
+    return Result.orFailWith(parseInvalid, error);
+  }
+
+  @Benchmark public Result<Integer, String> orDefaultThrowing() {
+    return Result.orDefault(parseInvalid, -1);
+  }
+}
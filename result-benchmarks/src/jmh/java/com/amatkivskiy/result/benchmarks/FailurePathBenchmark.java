@@ -0,0 +1,134 @@
+package com.amatkivskiy.result.benchmarks;
+
+import com.amatkivskiy.result.Attempt;
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.ErrorCode;
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.IntResult;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.ResultException;
+import com.amatkivskiy.result.ResultParsers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the failure path of {@link Result#of(Function)} with regular exceptions, with stackless
+ * {@link ResultException}, with {@link Result#attempt(Attempt)} that does not throw at all and with
+ * {@link ResultParsers} that returns preallocated failures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailurePathBenchmark {
+  private static final String INVALID_NUMBER = "Invalid number.";
+  private static final ResultException INVALID_NUMBER_EXCEPTION = new ResultException(INVALID_NUMBER);
+
+  private String valid = "12345";
+  private String invalid = "12x45";
+
+  private final Function<Integer> parseValid = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return Integer.parseInt(valid);
+    }
+  };
+
+  private final Function<Integer> parseInvalid = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return Integer.parseInt(invalid);
+    }
+  };
+
+  private final Function<Integer> parseInvalidResultException = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return parseOrThrow(invalid, false);
+    }
+  };
+
+  private final Function<Integer> parseInvalidSharedResultException = new Function<Integer>() {
+    @Override public Integer call() throws Exception {
+      return parseOrThrow(invalid, true);
+    }
+  };
+
+  private final Attempt<Integer, String> attemptValid = new Attempt<Integer, String>() {
+    @Override public Integer call(Consumer<String> failure) {
+      return parseOrReport(valid, failure);
+    }
+  };
+
+  private final Attempt<Integer, String> attemptInvalid = new Attempt<Integer, String>() {
+    @Override public Integer call(Consumer<String> failure) {
+      return parseOrReport(invalid, failure);
+    }
+  };
+
+  @Benchmark public Result<Integer, Exception> ofSuccess() {
+    return Result.of(parseValid);
+  }
+
+  @Benchmark public Result<Integer, Exception> ofNumberFormatException() {
+    return Result.of(parseInvalid);
+  }
+
+  @Benchmark public Result<Integer, Exception> ofResultException() {
+    return Result.of(parseInvalidResultException);
+  }
+
+  @Benchmark public Result<Integer, Exception> ofSharedResultException() {
+    return Result.of(parseInvalidSharedResultException);
+  }
+
+  @Benchmark public Result<Integer, String> attemptSuccess() {
+    return Result.attempt(attemptValid);
+  }
+
+  @Benchmark public Result<Integer, String> attemptFailure() {
+    return Result.attempt(attemptInvalid);
+  }
+
+  @Benchmark public IntResult<ErrorCode> parserSuccess() {
+    return ResultParsers.parseInt(valid);
+  }
+
+  @Benchmark public IntResult<ErrorCode> parserFailure() {
+    return ResultParsers.parseInt(invalid);
+  }
+
+  private static int parseOrThrow(String text, boolean shared) throws ResultException {
+    int value = 0;
+    for (int i = 0; i < text.length(); i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw shared ? INVALID_NUMBER_EXCEPTION : new ResultException(INVALID_NUMBER);
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static Integer parseOrReport(String text, Consumer<String> failure) {
+    int value = 0;
+    for (int i = 0; i < text.length(); i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        failure.accept(INVALID_NUMBER);
+        return null;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
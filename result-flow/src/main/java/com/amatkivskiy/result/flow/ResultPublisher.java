@@ -0,0 +1,179 @@
+package com.amatkivskiy.result.flow;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.Transformer;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} that transforms every item of the upstream publisher into {@link Result} and respects
+ * backpressure of its subscribers.
+ * <p>
+ * Upstream never gets asked for more items than the subscriber has requested and not received yet, so nothing is
+ * buffered. Requests to upstream are batched: while items are outstanding, new demand is only forwarded once it
+ * reaches the batch size.
+ * <p>
+ * Failures can be routed to a side channel instead of the subscriber. They do not consume subscriber demand, so the
+ * upstream is asked for a replacement item, and the subscription stays alive.
+ *
+ * @param <T> type of upstream item.
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultPublisher<T, V, E> implements Flow.Publisher<Result<V, E>> {
+  private final Flow.Publisher<T> upstream;
+  private final Transformer<T, Result<V, E>> transformer;
+  private final int batchSize;
+  private final Consumer<E> failures;
+
+  private ResultPublisher(Flow.Publisher<T> upstream, Transformer<T, Result<V, E>> transformer, int batchSize,
+                          Consumer<E> failures) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize + ".");
+    }
+
+    this.upstream = upstream;
+    this.transformer = transformer;
+    this.batchSize = batchSize;
+    this.failures = failures;
+  }
+
+  /**
+   * Constructs publisher that emits every {@link Result}, successful or not, to the subscriber.
+   *
+   * @param upstream publisher of items.
+   * @param transformer thread-safe function that transforms single item.
+   * @param batchSize minimum size of request to upstream while items are outstanding.
+   * @return new {@link ResultPublisher}.
+   */
+  public static <T, V, E> ResultPublisher<T, V, E> of(Flow.Publisher<T> upstream,
+                                                      Transformer<T, Result<V, E>> transformer, int batchSize) {
+    return new ResultPublisher<>(upstream, transformer, batchSize, null);
+  }
+
+  /**
+   * Constructs publisher that emits only successful {@link Result}s to the subscriber and passes errors to the side
+   * channel.
+   *
+   * @param upstream publisher of items.
+   * @param transformer thread-safe function that transforms single item.
+   * @param batchSize minimum size of request to upstream while items are outstanding.
+   * @param failures consumer of errors, called on the thread that delivers upstream items.
+   * @return new {@link ResultPublisher}.
+   */
+  public static <T, V, E> ResultPublisher<T, V, E> of(Flow.Publisher<T> upstream,
+                                                      Transformer<T, Result<V, E>> transformer, int batchSize,
+                                                      Consumer<E> failures) {
+    if (failures == null) {
+      throw new NullPointerException("failures == null");
+    }
+    return new ResultPublisher<>(upstream, transformer, batchSize, failures);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super Result<V, E>> subscriber) {
+    upstream.subscribe(new Bridge(subscriber));
+  }
+
+  /**
+   * Subscriber of upstream and subscription of downstream at the same time.
+   * <p>
+   * Demand accounting is lock-free: onNext() decrements demand before outstanding and replenish() reads outstanding
+   * before demand, so a successful compare-and-set on outstanding always works with up-to-date demand.
+   */
+  private final class Bridge implements Flow.Subscriber<T>, Flow.Subscription {
+    private final Flow.Subscriber<? super Result<V, E>> downstream;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile Flow.Subscription subscription;
+
+    Bridge(Flow.Subscriber<? super Result<V, E>> downstream) {
+      this.downstream = downstream;
+    }
+
+    @Override public void onSubscribe(Flow.Subscription subscription) {
+      if (this.subscription != null) {
+        subscription.cancel();
+        return;
+      }
+      this.subscription = subscription;
+      downstream.onSubscribe(this);
+    }
+
+    @Override public void onNext(T item) {
+      if (done.get()) return;
+
+      Result<V, E> result;
+      try {
+        result = transformer.apply(item);
+      } catch (RuntimeException exception) {
+        subscription.cancel();
+        onError(exception);
+        return;
+      }
+
+      if (failures != null && !result.isSuccess()) {
+        outstanding.decrementAndGet();
+        failures.accept(result.error());
+      } else {
+        demand.decrementAndGet();
+        outstanding.decrementAndGet();
+        downstream.onNext(result);
+      }
+      replenish();
+    }
+
+    @Override public void onError(Throwable throwable) {
+      if (done.compareAndSet(false, true)) {
+        downstream.onError(throwable);
+      }
+    }
+
+    @Override public void onComplete() {
+      if (done.compareAndSet(false, true)) {
+        downstream.onComplete();
+      }
+    }
+
+    @Override public void request(long n) {
+      if (n <= 0) {
+        subscription.cancel();
+        if (done.compareAndSet(false, true)) {
+          downstream.onError(new IllegalArgumentException("Request must be positive, but was " + n + "."));
+        }
+        return;
+      }
+
+      long current;
+      long next;
+      do {
+        current = demand.get();
+        next = current + n < 0 ? Long.MAX_VALUE : current + n;
+      } while (!demand.compareAndSet(current, next));
+      replenish();
+    }
+
+    @Override public void cancel() {
+      done.set(true);
+      subscription.cancel();
+    }
+
+    private void replenish() {
+      while (!done.get()) {
+        long requested = outstanding.get();
+        long wanted = demand.get() - requested;
+        if (wanted <= 0 || (requested > 0 && wanted < batchSize)) {
+          return;
+        }
+        if (outstanding.compareAndSet(requested, requested + wanted)) {
+          subscription.request(wanted);
+          return;
+        }
+      }
+    }
+  }
+}
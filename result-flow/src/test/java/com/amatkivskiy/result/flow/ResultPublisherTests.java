@@ -0,0 +1,216 @@
+package com.amatkivskiy.result.flow;
+
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.Transformer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ResultPublisherTests {
+  private static final Transformer<String, Result<Integer, String>> PARSE = value -> {
+    try {
+      return Result.success(Integer.parseInt(value));
+    } catch (NumberFormatException e) {
+      return Result.failure(value);
+    }
+  };
+
+  @Test
+  public void testEmitsAllResults() throws Exception {
+    ListPublisher upstream = new ListPublisher("1", "a", "2");
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    ResultPublisher.of(upstream, PARSE, 16)
+        .subscribe(subscriber);
+    subscriber.subscription.request(10);
+
+    assertThat(subscriber.items, is(Arrays.asList(Result.<Integer, String>success(1),
+                                                  Result.<Integer, String>failure("a"),
+                                                  Result.<Integer, String>success(2))));
+    assertThat(subscriber.completed, is(true));
+  }
+
+  @Test
+  public void testRespectsBackpressure() throws Exception {
+    ListPublisher upstream = new ListPublisher("1", "2", "3", "4", "5");
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    ResultPublisher.of(upstream, PARSE, 16)
+        .subscribe(subscriber);
+    subscriber.subscription.request(2);
+
+    assertThat(subscriber.items.size(), is(2));
+    assertThat(upstream.emitted, is(2));
+    assertThat(subscriber.completed, is(false));
+
+    subscriber.subscription.request(3);
+    assertThat(subscriber.items.size(), is(5));
+  }
+
+  @Test
+  public void testRoutesFailuresToSideChannel() throws Exception {
+    ListPublisher upstream = new ListPublisher("a", "1", "b", "c", "2", "3");
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    List<String> failures = new ArrayList<>();
+
+    ResultPublisher.of(upstream, PARSE, 16, failures::add)
+        .subscribe(subscriber);
+    subscriber.subscription.request(2);
+
+    assertThat(subscriber.items, is(Arrays.asList(Result.<Integer, String>success(1),
+                                                  Result.<Integer, String>success(2))));
+    assertThat(failures, is(Arrays.asList("a", "b", "c")));
+    assertThat(subscriber.completed, is(false));
+    assertThat(subscriber.error == null, is(true));
+  }
+
+  @Test
+  public void testBatchesUpstreamRequests() throws Exception {
+    ListPublisher upstream = new ListPublisher(new String[100]);
+    RecordingSubscriber subscriber = new RecordingSubscriber() {
+      @Override public void onNext(Result<Integer, String> item) {
+        super.onNext(item);
+        subscription.request(1);
+      }
+    };
+
+    ResultPublisher.of(upstream, value -> Result.<Integer, String>success(0), 10)
+        .subscribe(subscriber);
+    subscriber.subscription.request(10);
+
+    assertThat(subscriber.items.size(), is(100));
+    assertThat(upstream.requests.size() < 100, is(true));
+  }
+
+  @Test
+  public void testTransformerExceptionCancelsUpstream() throws Exception {
+    ListPublisher upstream = new ListPublisher("1", "2");
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    ResultPublisher.<String, Integer, String>of(upstream, value -> {
+      throw new IllegalStateException(value);
+    }, 16)
+        .subscribe(subscriber);
+    subscriber.subscription.request(2);
+
+    assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+    assertThat(upstream.cancelled, is(true));
+    assertThat(subscriber.items.isEmpty(), is(true));
+  }
+
+  @Test
+  public void testNonPositiveRequestFails() throws Exception {
+    ListPublisher upstream = new ListPublisher("1");
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    ResultPublisher.of(upstream, PARSE, 16)
+        .subscribe(subscriber);
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    assertThat(upstream.cancelled, is(true));
+  }
+
+  @Test
+  public void testAsyncPublisherCorrect() throws Exception {
+    SubmissionPublisher<String> upstream = new SubmissionPublisher<>();
+    CountDownLatch done = new CountDownLatch(1);
+    RecordingSubscriber subscriber = new RecordingSubscriber() {
+      @Override public void onSubscribe(Flow.Subscription subscription) {
+        super.onSubscribe(subscription);
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override public void onComplete() {
+        super.onComplete();
+        done.countDown();
+      }
+    };
+
+    ResultPublisher.of(upstream, PARSE, 16)
+        .subscribe(subscriber);
+    for (int i = 0; i < 1000; i++) {
+      upstream.submit(String.valueOf(i));
+    }
+    upstream.close();
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(subscriber.items.size(), is(1000));
+    assertThat(subscriber.items.get(999)
+                   .value(), is(999));
+  }
+
+  /**
+   * Synchronous publisher that emits items only on request and records every request.
+   */
+  static final class ListPublisher implements Flow.Publisher<String> {
+    final List<String> items;
+    final List<Long> requests = new ArrayList<>();
+    int emitted;
+    boolean cancelled;
+    private boolean emitting;
+    private long demand;
+
+    ListPublisher(String... items) {
+      this.items = Arrays.asList(items);
+    }
+
+    @Override public void subscribe(Flow.Subscriber<? super String> subscriber) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override public void request(long n) {
+          requests.add(n);
+          demand += n;
+          if (emitting) return;
+
+          emitting = true;
+          while (demand > 0 && emitted < items.size() && !cancelled) {
+            demand--;
+            subscriber.onNext(items.get(emitted++));
+          }
+          emitting = false;
+          if (emitted == items.size() && !cancelled) {
+            subscriber.onComplete();
+          }
+        }
+
+        @Override public void cancel() {
+          cancelled = true;
+        }
+      });
+    }
+  }
+
+  static class RecordingSubscriber implements Flow.Subscriber<Result<Integer, String>> {
+    final List<Result<Integer, String>> items = new ArrayList<>();
+    volatile Flow.Subscription subscription;
+    volatile boolean completed;
+    volatile Throwable error;
+
+    @Override public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override public void onNext(Result<Integer, String> item) {
+      items.add(item);
+    }
+
+    @Override public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override public void onComplete() {
+      completed = true;
+    }
+  }
+}
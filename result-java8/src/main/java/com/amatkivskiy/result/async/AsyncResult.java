@@ -0,0 +1,148 @@
+package com.amatkivskiy.result.async;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.Transformer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking {@link Result} that completes in the future. Every operation returns new {@link AsyncResult} and
+ * runs once the underlying {@link CompletableFuture} completes, without blocking the calling thread.
+ * <p>
+ * Exception thrown by a transformer or a consumer completes the returned {@link AsyncResult} exceptionally, the same
+ * way it propagates out of {@link Result} operations.
+ *
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class AsyncResult<V, E> {
+  private final CompletableFuture<Result<V, E>> future;
+
+  private AsyncResult(CompletableFuture<Result<V, E>> future) {
+    this.future = future;
+  }
+
+  /**
+   * Transforms successful value of this result, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link Result#value()}.
+   * @param <P> new successful type.
+   * @return new {@link AsyncResult} with P value.
+   */
+  public <P> AsyncResult<P, E> map(Transformer<V, P> transformer) {
+    return new AsyncResult<>(future.thenApply(result -> result.map(transformer)));
+  }
+
+  /**
+   * Transforms completed {@link Result} into completely new {@link AsyncResult}.
+   *
+   * @param transformer function that transforms {@link Result}.
+   * @param <P> new successful type.
+   * @param <T> new failure type.
+   * @return new {@link AsyncResult}.
+   */
+  public <P, T> AsyncResult<P, T> flatMap(Transformer<Result<V, E>, AsyncResult<P, T>> transformer) {
+    return new AsyncResult<>(future.thenCompose(result -> transformer.apply(result).future));
+  }
+
+  /**
+   * Consumes successful result once completed, skips call otherwise.
+   *
+   * @return new {@link AsyncResult} that completes after consumer has been called.
+   */
+  public AsyncResult<V, E> onSuccess(Consumer<V> consumer) {
+    return new AsyncResult<>(future.thenApply(result -> result.onSuccess(consumer)));
+  }
+
+  /**
+   * Consumes failure result once completed, skips call otherwise.
+   *
+   * @return new {@link AsyncResult} that completes after consumer has been called.
+   */
+  public AsyncResult<V, E> onFailure(Consumer<E> consumer) {
+    return new AsyncResult<>(future.thenApply(result -> result.onFailure(consumer)));
+  }
+
+  /**
+   * Returns future of successful value or fallback value otherwise.
+   *
+   * @param fallback value.
+   * @return future of value.
+   */
+  public CompletableFuture<V> or(V fallback) {
+    return future.thenApply(result -> result.or(fallback));
+  }
+
+  /**
+   * @return future of the underlying {@link Result}.
+   */
+  public CompletableFuture<Result<V, E>> toFuture() {
+    return future;
+  }
+
+  /**
+   * Constructs already completed {@link AsyncResult}.
+   *
+   * @param result completed result.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link AsyncResult}.
+   */
+  public static <V, E> AsyncResult<V, E> completed(Result<V, E> result) {
+    return new AsyncResult<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Constructs completed successful result.
+   *
+   * @param value successful value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link AsyncResult}.
+   */
+  public static <V, E> AsyncResult<V, E> success(V value) {
+    return completed(Result.<V, E>success(value));
+  }
+
+  /**
+   * Constructs completed failure result.
+   *
+   * @param error error value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link AsyncResult}.
+   */
+  public static <V, E> AsyncResult<V, E> failure(E error) {
+    return completed(Result.<V, E>failure(error));
+  }
+
+  /**
+   * Wraps stage that completes with {@link Result}.
+   *
+   * @param stage stage to be wrapped.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link AsyncResult}.
+   */
+  public static <V, E> AsyncResult<V, E> from(CompletionStage<Result<V, E>> stage) {
+    return new AsyncResult<>(stage.toCompletableFuture());
+  }
+
+  /**
+   * Calls {@link Function} on the given {@link Executor} and completes with its return value or with
+   * {@link Exception} thrown during the call, the same way {@link Result#of(Function)} does.
+   *
+   * @param suspect function to be called.
+   * @param executor executor to call function on.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link AsyncResult}.
+   */
+  public static <V, E extends Exception> AsyncResult<V, E> of(Function<V> suspect, Executor executor) {
+    return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.<V, E>of(suspect), executor));
+  }
+}
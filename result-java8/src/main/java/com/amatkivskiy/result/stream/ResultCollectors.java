@@ -0,0 +1,115 @@
+package com.amatkivskiy.result.stream;
+
+import com.amatkivskiy.result.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s that reduce a stream of {@link Result}s in a single pass. All of them keep encounter order and
+ * work on parallel streams.
+ */
+public final class ResultCollectors {
+  private ResultCollectors() {
+  }
+
+  /**
+   * Collects successful values into a list, or the first failure in encounter order. Values are no longer collected
+   * once a failure has been found.
+   *
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Collector}.
+   */
+  public static <V, E> Collector<Result<V, E>, ?, Result<List<V>, E>> toResultList() {
+    return Collector.of(ValuesOrFailure<V, E>::new, ValuesOrFailure::add, ValuesOrFailure::merge,
+                        ValuesOrFailure::toResult);
+  }
+
+  /**
+   * Splits successful values and errors.
+   *
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Collector}.
+   */
+  public static <V, E> Collector<Result<V, E>, ?, ResultPartition<V, E>> partitioningByResult() {
+    return Collector.of(() -> new ResultPartition<V, E>(new ArrayList<>(), new ArrayList<>()),
+                        (partition, result) -> {
+                          if (result.isSuccess()) {
+                            partition.successes()
+                                .add(result.value());
+                          } else {
+                            partition.failures()
+                                .add(result.error());
+                          }
+                        },
+                        (left, right) -> {
+                          left.successes()
+                              .addAll(right.successes());
+                          left.failures()
+                              .addAll(right.failures());
+                          return left;
+                        });
+  }
+
+  /**
+   * Finds the first failure in encounter order. Collectors always consume the whole stream, use
+   * {@link ResultStreams#firstFailure(java.util.stream.Stream)} to stop at the first failure.
+   *
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Collector}.
+   */
+  public static <V, E> Collector<Result<V, E>, ?, Optional<Result<V, E>>> firstFailure() {
+    return Collector.of(ValuesOrFailure::<V, E>withoutValues, ValuesOrFailure::add, ValuesOrFailure::merge,
+                        accumulator -> Optional.ofNullable(accumulator.failure));
+  }
+
+  private static final class ValuesOrFailure<V, E> {
+    private final List<V> values;
+    private Result<V, E> failure;
+
+    ValuesOrFailure() {
+      this(new ArrayList<>());
+    }
+
+    private ValuesOrFailure(List<V> values) {
+      this.values = values;
+    }
+
+    static <V, E> ValuesOrFailure<V, E> withoutValues() {
+      return new ValuesOrFailure<>(null);
+    }
+
+    void add(Result<V, E> result) {
+      if (failure != null) return;
+
+      if (!result.isSuccess()) {
+        failure = result;
+      } else if (values != null) {
+        values.add(result.value());
+      }
+    }
+
+    ValuesOrFailure<V, E> merge(ValuesOrFailure<V, E> right) {
+      if (failure != null) return this;
+      if (right.failure != null) return right;
+
+      if (values != null) {
+        values.addAll(right.values);
+      }
+      return this;
+    }
+
+    Result<List<V>, E> toResult() {
+      if (failure == null) return Result.success(values);
+
+      // Failure holds no value, so it is valid for any successful type.
+      //noinspection unchecked
+      return (Result<List<V>, E>) (Result<?, E>) failure;
+    }
+  }
+}
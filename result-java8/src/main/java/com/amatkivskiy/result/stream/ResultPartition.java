@@ -0,0 +1,38 @@
+package com.amatkivskiy.result.stream;
+
+import java.util.List;
+
+/**
+ * Successful values and errors of a stream of {@link com.amatkivskiy.result.Result}s, each in encounter order.
+ *
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultPartition<V, E> {
+  private final List<V> successes;
+  private final List<E> failures;
+
+  ResultPartition(List<V> successes, List<E> failures) {
+    this.successes = successes;
+    this.failures = failures;
+  }
+
+  /**
+   * @return successful values.
+   */
+  public List<V> successes() {
+    return successes;
+  }
+
+  /**
+   * @return errors.
+   */
+  public List<E> failures() {
+    return failures;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultPartition[successes=" + successes + ", failures=" + failures + "]";
+  }
+}
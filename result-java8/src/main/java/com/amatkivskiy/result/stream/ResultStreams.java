@@ -0,0 +1,58 @@
+package com.amatkivskiy.result.stream;
+
+import com.amatkivskiy.result.Result;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Bridges between {@link Result} and {@link Stream}.
+ */
+public final class ResultStreams {
+  private ResultStreams() {
+  }
+
+  /**
+   * @param result result to be streamed.
+   * @param <V> type of successful value.
+   * @return stream with successful value, empty stream for failure.
+   */
+  public static <V> Stream<V> stream(Result<V, ?> result) {
+    return result.isSuccess() ? Stream.of(result.value()) : Stream.<V>empty();
+  }
+
+  /**
+   * @param results stream of results.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return lazy stream of successful values.
+   */
+  public static <V, E> Stream<V> successes(Stream<Result<V, E>> results) {
+    return results.filter(Result::isSuccess)
+        .map(Result::value);
+  }
+
+  /**
+   * @param results stream of results.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return lazy stream of errors.
+   */
+  public static <V, E> Stream<E> failures(Stream<Result<V, E>> results) {
+    return results.filter(result -> !result.isSuccess())
+        .map(Result::error);
+  }
+
+  /**
+   * Finds the first failure in encounter order and stops consuming the stream there.
+   *
+   * @param results stream of results.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return the first failure, empty if all results are successful.
+   */
+  public static <V, E> Optional<Result<V, E>> firstFailure(Stream<Result<V, E>> results) {
+    return results.filter(result -> !result.isSuccess())
+        .findFirst();
+  }
+}
@@ -0,0 +1,132 @@
+package com.amatkivskiy.result.async;
+
+import com.amatkivskiy.result.Result;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncResultTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testOfCorrect() throws Exception {
+    Result<String, Exception> result = AsyncResult.<String, Exception>of(() -> OOOH_YEAH, executor)
+        .toFuture()
+        .get();
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(OOOH_YEAH));
+  }
+
+  @Test
+  public void testOfFailureCorrect() throws Exception {
+    Result<String, Exception> result = AsyncResult.<String, Exception>of(() -> {
+      throw new IllegalStateException(OOOH_NOOO);
+    }, executor)
+        .toFuture()
+        .get();
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.error(), instanceOf(IllegalStateException.class));
+    assertThat(result.error()
+                   .getMessage(), is(OOOH_NOOO));
+  }
+
+  @Test
+  public void testMapIsNonBlocking() throws Exception {
+    CompletableFuture<Result<String, String>> source = new CompletableFuture<>();
+
+    CompletableFuture<Integer> length = AsyncResult.from(source)
+        .map(String::length)
+        .or(-1);
+
+    assertThat(length.isDone(), is(false));
+    source.complete(Result.success(OOOH_YEAH));
+    assertThat(length.get(), is(OOOH_YEAH.length()));
+  }
+
+  @Test
+  public void testFailureSkipsMapCorrect() throws Exception {
+    Result<Integer, String> result = AsyncResult.<String, String>failure(OOOH_NOOO)
+        .map(value -> {
+          fail("transformer should not be called.");
+          return value.length();
+        })
+        .toFuture()
+        .get();
+
+    assertThat(result.error(), is(OOOH_NOOO));
+    assertThat(result.value(), is(nullValue()));
+  }
+
+  @Test
+  public void testFlatMapCorrect() throws Exception {
+    Result<Integer, Exception> result = AsyncResult.<String, String>success(OOOH_YEAH)
+        .flatMap(value -> AsyncResult.<Integer, Exception>of(() -> value.value()
+            .length(), executor))
+        .toFuture()
+        .get();
+
+    assertThat(result.value(), is(OOOH_YEAH.length()));
+  }
+
+  @Test
+  public void testOnSuccessOnFailureCorrect() throws Exception {
+    AtomicReference<String> consumed = new AtomicReference<>();
+
+    AsyncResult.<String, String>success(OOOH_YEAH)
+        .onSuccess(consumed::set)
+        .onFailure(value -> fail("onFailure() should not be called."))
+        .toFuture()
+        .get();
+    assertThat(consumed.get(), is(OOOH_YEAH));
+
+    AsyncResult.<String, String>failure(OOOH_NOOO)
+        .onSuccess(value -> fail("onSuccess() should not be called."))
+        .onFailure(consumed::set)
+        .toFuture()
+        .get();
+    assertThat(consumed.get(), is(OOOH_NOOO));
+  }
+
+  @Test
+  public void testOrCorrect() throws Exception {
+    assertThat(AsyncResult.<String, String>success(OOOH_YEAH).or(OOOH_NOOO).get(), is(OOOH_YEAH));
+    assertThat(AsyncResult.<String, String>failure(OOOH_NOOO).or(OOOH_YEAH).get(), is(OOOH_YEAH));
+  }
+
+  @Test
+  public void testThrowingTransformerCompletesExceptionally() throws Exception {
+    try {
+      AsyncResult.<String, String>success(OOOH_YEAH)
+          .map(value -> {
+            throw new IllegalStateException(OOOH_NOOO);
+          })
+          .toFuture()
+          .get();
+      fail("future should complete exceptionally.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.amatkivskiy.result.stream;
+
+import com.amatkivskiy.result.Result;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultCollectorsTests {
+  @Test
+  public void testToResultListCorrect() throws Exception {
+    Result<List<Integer>, String> result = Stream.of(Result.<Integer, String>success(1),
+                                                     Result.<Integer, String>success(2))
+        .collect(ResultCollectors.toResultList());
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void testToResultListReturnsFirstFailure() throws Exception {
+    Result<Integer, String> first = Result.failure("one");
+    Result<List<Integer>, String> result = Stream.of(Result.<Integer, String>success(1), first,
+                                                     Result.<Integer, String>failure("two"))
+        .collect(ResultCollectors.toResultList());
+
+    assertThat(result.error(), is("one"));
+    assertThat(result, sameInstance((Object) first));
+  }
+
+  @Test
+  public void testToResultListParallelKeepsOrder() throws Exception {
+    Result<List<Integer>, String> success = parse(IntStream.range(0, 100000)
+                                                      .mapToObj(String::valueOf)).parallel()
+        .collect(ResultCollectors.toResultList());
+
+    assertThat(success.value(), is(IntStream.range(0, 100000)
+                                       .boxed()
+                                       .collect(Collectors.toList())));
+
+    Result<List<Integer>, String> failure = parse(IntStream.range(0, 100000)
+                                                      .mapToObj(i -> i % 30000 == 29999 ? "x" + i
+                                                                                        : String.valueOf(i)))
+        .parallel()
+        .collect(ResultCollectors.toResultList());
+
+    assertThat(failure.error(), is("x29999"));
+  }
+
+  @Test
+  public void testPartitioningByResultCorrect() throws Exception {
+    ResultPartition<Integer, String> partition = parse(Stream.of("1", "a", "2", "b")).parallel()
+        .collect(ResultCollectors.partitioningByResult());
+
+    assertThat(partition.successes(), is(Arrays.asList(1, 2)));
+    assertThat(partition.failures(), is(Arrays.asList("a", "b")));
+  }
+
+  @Test
+  public void testFirstFailureCorrect() throws Exception {
+    Optional<Result<Integer, String>> failure = parse(Stream.of("1", "a", "2", "b")).parallel()
+        .collect(ResultCollectors.firstFailure());
+    assertThat(failure.get()
+                   .error(), is("a"));
+
+    assertThat(parse(Stream.of("1", "2")).collect(ResultCollectors.firstFailure())
+                   .isPresent(), is(false));
+  }
+
+  static Stream<Result<Integer, String>> parse(Stream<String> values) {
+    return values.map(value -> {
+      try {
+        return Result.success(Integer.parseInt(value));
+      } catch (NumberFormatException e) {
+        return Result.failure(value);
+      }
+    });
+  }
+}
@@ -0,0 +1,44 @@
+package com.amatkivskiy.result.stream;
+
+import com.amatkivskiy.result.Result;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ResultStreamsTests {
+  @Test
+  public void testStreamCorrect() throws Exception {
+    assertThat(ResultStreams.stream(Result.success(1))
+                   .collect(Collectors.toList()), is(Arrays.asList(1)));
+    assertThat(ResultStreams.stream(Result.failure("error"))
+                   .count(), is(0L));
+  }
+
+  @Test
+  public void testSuccessesAndFailuresCorrect() throws Exception {
+    assertThat(ResultStreams.successes(ResultCollectorsTests.parse(Stream.of("1", "a", "2")))
+                   .collect(Collectors.toList()), is(Arrays.asList(1, 2)));
+    assertThat(ResultStreams.failures(ResultCollectorsTests.parse(Stream.of("1", "a", "2")))
+                   .collect(Collectors.toList()), is(Arrays.asList("a")));
+  }
+
+  @Test
+  public void testFirstFailureShortCircuits() throws Exception {
+    AtomicInteger consumed = new AtomicInteger();
+
+    Result<Integer, String> failure = ResultStreams.firstFailure(
+        ResultCollectorsTests.parse(Stream.of("1", "a", "2", "b")
+                                        .peek(value -> consumed.incrementAndGet())))
+        .get();
+
+    assertThat(failure.error(), is("a"));
+    assertThat(consumed.get(), is(2));
+  }
+}
@@ -0,0 +1,64 @@
+package com.amatkivskiy.result.jfr;
+
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.ResultMetrics;
+
+import jdk.jfr.EventType;
+
+/**
+ * {@link ResultMetrics} that emits Java Flight Recorder events for {@link Result#of(Function)},
+ * {@link Result#orFailWith(Function, Object)} and {@link Result#orDefault(Function, Object)}:
+ * <ul>
+ * <li>{@code com.amatkivskiy.result.Failure} for every exception thrown by the function;</li>
+ * <li>{@code com.amatkivskiy.result.SlowEvaluation} for every evaluation that takes at least the threshold of the
+ * event, 100 ms by default. The threshold is a regular JFR setting, e.g.
+ * {@code recording.enable("com.amatkivskiy.result.SlowEvaluation").withThreshold(Duration.ofMillis(10))}.</li>
+ * </ul>
+ * The module registers it with {@link java.util.ServiceLoader}, so having it on the class path is enough, other
+ * registered {@link ResultMetrics} keep recording. While neither event is recorded, the operations are reported as
+ * disabled and {@link Result} takes the uninstrumented path.
+ */
+public class JfrResultMetrics extends ResultMetrics {
+  private static final EventType FAILURE = EventType.getEventType(ResultFailureEvent.class);
+  private static final EventType SLOW_EVALUATION = EventType.getEventType(SlowEvaluationEvent.class);
+
+  @Override
+  public boolean isEnabled(Operation operation) {
+    return operation != Operation.MAP && operation != Operation.FLAT_MAP
+        && (FAILURE.isEnabled() || SLOW_EVALUATION.isEnabled());
+  }
+
+  @Override
+  public Object begin(Operation operation) {
+    if (!SLOW_EVALUATION.isEnabled()) return null;
+
+    SlowEvaluationEvent event = new SlowEvaluationEvent();
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void record(Operation operation, Class<?> callSite, boolean success, Object error, long durationNanos,
+                     Object context) {
+    if (context != null) {
+      SlowEvaluationEvent event = (SlowEvaluationEvent) context;
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = operation.name();
+        event.callSite = callSite.getName();
+        event.success = success;
+        event.commit();
+      }
+    }
+
+    if (!success && FAILURE.isEnabled()) {
+      ResultFailureEvent event = new ResultFailureEvent();
+      event.operation = operation.name();
+      event.callSite = callSite.getName();
+      event.exceptionClass = error == null ? null : error.getClass();
+      event.evaluationDuration = durationNanos;
+      event.commit();
+    }
+  }
+}
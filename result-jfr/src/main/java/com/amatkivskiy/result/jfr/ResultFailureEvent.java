@@ -0,0 +1,32 @@
+package com.amatkivskiy.result.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted when a function evaluated by {@link com.amatkivskiy.result.Result} throws an exception.
+ */
+@Name("com.amatkivskiy.result.Failure")
+@Label("Result Failure")
+@Category("Result")
+@Description("Exception caught by Result.of(), orFailWith() or orDefault()")
+@StackTrace(false)
+final class ResultFailureEvent extends jdk.jfr.Event {
+  @Label("Operation")
+  String operation;
+
+  @Label("Call Site")
+  @Description("Class of the evaluated function")
+  String callSite;
+
+  @Label("Exception Class")
+  Class<?> exceptionClass;
+
+  @Label("Evaluation Duration")
+  @Timespan(Timespan.NANOSECONDS)
+  long evaluationDuration;
+}
@@ -0,0 +1,30 @@
+package com.amatkivskiy.result.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted when a function evaluated by {@link com.amatkivskiy.result.Result} takes longer than the threshold of the
+ * event. Duration of the event is the duration of the evaluation.
+ */
+@Name("com.amatkivskiy.result.SlowEvaluation")
+@Label("Slow Result Evaluation")
+@Category("Result")
+@Description("Function evaluated by Result.of(), orFailWith() or orDefault() above the duration threshold")
+@StackTrace(false)
+@Threshold("100 ms")
+final class SlowEvaluationEvent extends jdk.jfr.Event {
+  @Label("Operation")
+  String operation;
+
+  @Label("Call Site")
+  @Description("Class of the evaluated function")
+  String callSite;
+
+  @Label("Success")
+  boolean success;
+}
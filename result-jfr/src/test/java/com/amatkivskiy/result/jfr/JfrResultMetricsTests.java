@@ -0,0 +1,138 @@
+package com.amatkivskiy.result.jfr;
+
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.ResultMetrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class JfrResultMetricsTests {
+  private static final String FAILURE = "com.amatkivskiy.result.Failure";
+  private static final String SLOW_EVALUATION = "com.amatkivskiy.result.SlowEvaluation";
+
+  private final Function<Integer> parseInvalid = () -> Integer.parseInt("invalid");
+  private final Function<Integer> sleep = () -> {
+    Thread.sleep(20);
+    return 42;
+  };
+
+  private Recording recording;
+  private Path dump;
+
+  @Before
+  public void setUp() throws Exception {
+    recording = new Recording();
+    dump = Files.createTempFile("result-jfr", ".jfr");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    recording.close();
+    Files.deleteIfExists(dump);
+  }
+
+  @Test
+  public void testIsInstalledFromClassPath() throws Exception {
+    assertThat(ResultMetrics.installed(JfrResultMetrics.class), notNullValue());
+  }
+
+  @Test
+  public void testDisabledWhileNotRecording() throws Exception {
+    JfrResultMetrics metrics = new JfrResultMetrics();
+
+    assertThat(metrics.isEnabled(ResultMetrics.Operation.OF), is(false));
+
+    recording.enable(FAILURE);
+    recording.start();
+    assertThat(metrics.isEnabled(ResultMetrics.Operation.OF), is(true));
+    assertThat(metrics.isEnabled(ResultMetrics.Operation.MAP), is(false));
+  }
+
+  @Test
+  public void testEmitsFailureEvent() throws Exception {
+    recording.enable(FAILURE);
+    recording.start();
+
+    Result.of(parseInvalid);
+    Result.orFailWith(parseInvalid, "invalid");
+    Result.of(() -> 42);
+
+    List<RecordedEvent> events = stop(FAILURE);
+    assertThat(events.size(), is(2));
+    assertThat(events.get(0)
+                   .getString("operation"), is("OF"));
+    assertThat(events.get(0)
+                   .getString("callSite"), is(parseInvalid.getClass()
+                                                   .getName()));
+    assertThat(events.get(0)
+                   .getClass("exceptionClass")
+                   .getName(), is(NumberFormatException.class.getName()));
+    assertThat(events.get(1)
+                   .getString("operation"), is("OR_FAIL_WITH"));
+  }
+
+  @Test
+  public void testEmitsSlowEvaluationEventAboveThreshold() throws Exception {
+    recording.enable(SLOW_EVALUATION)
+        .withThreshold(Duration.ofMillis(10));
+    recording.start();
+
+    Result.orDefault(sleep, -1);
+    Result.of(() -> 42);
+
+    List<RecordedEvent> events = stop(SLOW_EVALUATION);
+    assertThat(events.size(), is(1));
+    assertThat(events.get(0)
+                   .getString("operation"), is("OR_DEFAULT"));
+    assertThat(events.get(0)
+                   .getString("callSite"), is(sleep.getClass()
+                                                   .getName()));
+    assertThat(events.get(0)
+                   .getBoolean("success"), is(true));
+    assertThat(events.get(0)
+                   .getDuration()
+                   .toMillis() >= 20, is(true));
+  }
+
+  @Test
+  public void testNoEventsWhenDisabled() throws Exception {
+    recording.disable(FAILURE);
+    recording.start();
+
+    Result.of(parseInvalid);
+
+    assertThat(stop(FAILURE).isEmpty(), is(true));
+  }
+
+  private List<RecordedEvent> stop(String name) throws IOException {
+    recording.stop();
+    recording.dump(dump);
+
+    List<RecordedEvent> events = new ArrayList<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+      if (event.getEventType()
+          .getName()
+          .equals(name)) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+}
@@ -0,0 +1,108 @@
+package com.amatkivskiy.result.sealed;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Transformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares chained calls of the core {@link com.amatkivskiy.result.Result} with the sealed {@link Result}. Values are
+ * outside the {@link Integer} cache, so {@code gc.alloc.rate.norm} of the success chains shows boxing plus every
+ * intermediate result that has not been scalar replaced.
+ * <p>
+ * Run with {@code gradle -PwithSealed :result-sealed:jmh}, the GC profiler is configured by default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+  private static final int SIZE = 1024;
+
+  private static final Transformer<Integer, Integer> DOUBLE = value -> value * 2;
+  private static final Transformer<Integer, Integer> INCREMENT = value -> value + 1;
+
+  /**
+   * Percentage of failures among the results of the mixed chains.
+   */
+  @Param({"0", "10", "50"})
+  public int failurePercent;
+
+  @SuppressWarnings("unchecked")
+  private final com.amatkivskiy.result.Result<Integer, String>[] coreResults =
+      (com.amatkivskiy.result.Result<Integer, String>[]) new com.amatkivskiy.result.Result<?, ?>[SIZE];
+  @SuppressWarnings("unchecked")
+  private final Result<Integer, String>[] sealedResults = (Result<Integer, String>[]) new Result<?, ?>[SIZE];
+  private int value = 1000;
+  private int sink;
+
+  private final Consumer<Integer> accumulate = value -> sink += value;
+
+  @Setup public void setup() {
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      boolean failure = random.nextInt(100) < failurePercent;
+      coreResults[i] = failure ? com.amatkivskiy.result.Result.<Integer, String>failure("Failed.")
+                               : com.amatkivskiy.result.Result.<Integer, String>success(1000 + i);
+      sealedResults[i] = failure ? Result.<Integer, String>failure("Failed.")
+                                 : Result.<Integer, String>success(1000 + i);
+    }
+  }
+
+  @Benchmark public int plainChain() {
+    return (value * 2 + 1) * 2;
+  }
+
+  @Benchmark public int coreSuccessChain() {
+    return com.amatkivskiy.result.Result.<Integer, String>success(value)
+        .map(DOUBLE)
+        .map(INCREMENT)
+        .map(DOUBLE)
+        .or(0);
+  }
+
+  @Benchmark public int sealedSuccessChain() {
+    return Result.<Integer, String>success(value)
+        .map(DOUBLE)
+        .map(INCREMENT)
+        .map(DOUBLE)
+        .or(0);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void coreMixedChain(Blackhole blackhole) {
+    for (com.amatkivskiy.result.Result<Integer, String> result : coreResults) {
+      blackhole.consume(result.map(DOUBLE)
+                            .onSuccess(accumulate)
+                            .or(0));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void sealedMixedChain(Blackhole blackhole) {
+    for (Result<Integer, String> result : sealedResults) {
+      blackhole.consume(result.map(DOUBLE)
+                            .onSuccess(accumulate)
+                            .or(0));
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.amatkivskiy.result.sealed;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Transformer;
+
+/**
+ * Failed {@link Result}.
+ *
+ * @param error error value.
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public record Failure<V, E>(E error) implements Result<V, E> {
+  private static final Failure<?, ?> EMPTY = new Failure<>(null);
+
+  static <V, E> Failure<V, E> cached(E error) {
+    if (error == null) {
+      //noinspection unchecked
+      return (Failure<V, E>) EMPTY;
+    }
+    return new Failure<>(error);
+  }
+
+  @Override
+  public V value() {
+    return null;
+  }
+
+  @Override
+  public boolean isSuccess() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return error == null;
+  }
+
+  @Override
+  public Result<V, E> onSuccess(Consumer<V> consumer) {
+    return this;
+  }
+
+  @Override
+  public Result<V, E> onFailure(Consumer<E> consumer) {
+    consumer.accept(error);
+    return this;
+  }
+
+  @Override
+  public <P> Result<P, E> map(Transformer<V, P> transformer) {
+    // Failure holds no value, so it is valid for any successful type.
+    //noinspection unchecked
+    return (Result<P, E>) this;
+  }
+
+  @Override
+  public V or(V fallback) {
+    return fallback;
+  }
+
+  @Override
+  public com.amatkivskiy.result.Result<V, E> toResult() {
+    return com.amatkivskiy.result.Result.failure(error);
+  }
+
+  @Override
+  public String toString() {
+    return "Failure[failure=" + error + "]";
+  }
+}
@@ -0,0 +1,185 @@
+package com.amatkivskiy.result.sealed;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Function;
+import com.amatkivskiy.result.Transformer;
+
+/**
+ * Outcome of a computation: either {@link Success} with a value or {@link Failure} with an error.
+ * <p>
+ * Java 17 variant of {@link com.amatkivskiy.result.Result}. The hierarchy is sealed and both subtypes are records,
+ * so call sites see at most two receiver types with final fields and the JIT can inline them. Operations are
+ * implemented separately in each subtype instead of branching on {@link #isSuccess()}. Unlike the core type it is not
+ * instrumented by {@link com.amatkivskiy.result.ResultMetrics}.
+ *
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public sealed interface Result<V, E> permits Success, Failure {
+  /**
+   * @return value if {@link #isSuccess()} returns true, null otherwise.
+   */
+  V value();
+
+  /**
+   * @return error if {@link #isSuccess()} returns false, null otherwise.
+   */
+  E error();
+
+  /**
+   * @return true if successful, false otherwise.
+   */
+  boolean isSuccess();
+
+  /**
+   * {@link Result} can be also empty.
+   *
+   * @return true if {@link #value()} or {@link #error()} returns null;
+   */
+  boolean isEmpty();
+
+  /**
+   * @return true if successful non empty {@link Result}, false otherwise.
+   */
+  default boolean isSuccessfulNonEmpty() {
+    return isSuccess() && !isEmpty();
+  }
+
+  /**
+   * Consumes successful result, skips call otherwise.
+   *
+   * @return current {@link Result}.
+   */
+  Result<V, E> onSuccess(Consumer<V> consumer);
+
+  /**
+   * Consumes failure result, skips call otherwise.
+   *
+   * @return current {@link Result}.
+   */
+  Result<V, E> onFailure(Consumer<E> consumer);
+
+  /**
+   * Transforms successful value of this result, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link #value()}.
+   * @param <P> new successful type.
+   * @return new {@link Result} with P value or current failure.
+   */
+  <P> Result<P, E> map(Transformer<V, P> transformer);
+
+  /**
+   * Transforms current {@link Result} into completely new {@link Result}.
+   *
+   * @param transformer function that transforms {@link Result}.
+   * @param <P> new successful type.
+   * @param <T> new failure type.
+   * @return new {@link Result}.
+   */
+  default <P, T> Result<P, T> flatMap(Transformer<Result<V, E>, Result<P, T>> transformer) {
+    return transformer.apply(this);
+  }
+
+  /**
+   * Returns successful value or fallback value otherwise.
+   *
+   * @param fallback value.
+   * @return value.
+   */
+  V or(V fallback);
+
+  /**
+   * Converts to core {@link com.amatkivskiy.result.Result}.
+   *
+   * @return new core {@link com.amatkivskiy.result.Result}.
+   */
+  com.amatkivskiy.result.Result<V, E> toResult();
+
+  /**
+   * Constructs failure result. Empty failure is a shared immutable instance.
+   *
+   * @param error error value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E> Result<V, E> failure(E error) {
+    return Failure.cached(error);
+  }
+
+  /**
+   * Constructs successful result. Empty success is a shared immutable instance.
+   *
+   * @param value successful value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E> Result<V, E> success(V value) {
+    return Success.cached(value);
+  }
+
+  /**
+   * Creates {@link Result} with {@link Function} return value or with {@link Exception} thrown during {@link Function}
+   * call.
+   *
+   * @param suspect function to be called.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E extends Exception> Result<V, E> of(Function<V> suspect) {
+    try {
+      return success(suspect.call());
+    } catch (Exception exception) {
+      //noinspection unchecked
+      return new Failure<>((E) exception);
+    }
+  }
+
+  /**
+   * Creates {@link Result} with {@link Function} return value or with error value if {@link Function} fails.
+   *
+   * @param suspect function to be called.
+   * @param error custom error to fail.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E> Result<V, E> orFailWith(Function<V> suspect, E error) {
+    try {
+      return success(suspect.call());
+    } catch (Exception exception) {
+      return failure(error);
+    }
+  }
+
+  /**
+   * Creates {@link Result} with {@link Function} return value or with fallbackValue value if {@link Function} fails.
+   *
+   * @param suspect function to be called.
+   * @param fallbackValue value to be used of {@link Function} fails.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E> Result<V, E> orDefault(Function<V> suspect, V fallbackValue) {
+    try {
+      return success(suspect.call());
+    } catch (Exception exception) {
+      return success(fallbackValue);
+    }
+  }
+
+  /**
+   * Converts core {@link com.amatkivskiy.result.Result}.
+   *
+   * @param result core result.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  static <V, E> Result<V, E> from(com.amatkivskiy.result.Result<V, E> result) {
+    return result.isSuccess() ? success(result.value()) : failure(result.error());
+  }
+}
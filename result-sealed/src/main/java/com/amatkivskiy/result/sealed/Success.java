@@ -0,0 +1,69 @@
+package com.amatkivskiy.result.sealed;
+
+import com.amatkivskiy.result.Consumer;
+import com.amatkivskiy.result.Transformer;
+
+/**
+ * Successful {@link Result}.
+ *
+ * @param value successful value.
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public record Success<V, E>(V value) implements Result<V, E> {
+  private static final Success<?, ?> EMPTY = new Success<>(null);
+
+  static <V, E> Success<V, E> cached(V value) {
+    if (value == null) {
+      //noinspection unchecked
+      return (Success<V, E>) EMPTY;
+    }
+    return new Success<>(value);
+  }
+
+  @Override
+  public E error() {
+    return null;
+  }
+
+  @Override
+  public boolean isSuccess() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return value == null;
+  }
+
+  @Override
+  public Result<V, E> onSuccess(Consumer<V> consumer) {
+    consumer.accept(value);
+    return this;
+  }
+
+  @Override
+  public Result<V, E> onFailure(Consumer<E> consumer) {
+    return this;
+  }
+
+  @Override
+  public <P> Result<P, E> map(Transformer<V, P> transformer) {
+    return Result.success(transformer.apply(value));
+  }
+
+  @Override
+  public V or(V fallback) {
+    return value;
+  }
+
+  @Override
+  public com.amatkivskiy.result.Result<V, E> toResult() {
+    return com.amatkivskiy.result.Result.success(value);
+  }
+
+  @Override
+  public String toString() {
+    return "Success[value=" + value + "]";
+  }
+}
@@ -0,0 +1,95 @@
+package com.amatkivskiy.result.sealed;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultTests {
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  @Test
+  public void testSuccessChain() throws Exception {
+    List<Integer> consumed = new ArrayList<>();
+
+    Result<Integer, String> result = Result.<String, String>success(OOOH_YEAH)
+        .map(String::length)
+        .onSuccess(consumed::add)
+        .onFailure(error -> consumed.add(-1));
+
+    assertThat(result.value(), is(11));
+    assertThat(result.or(0), is(11));
+    assertThat(consumed.size(), is(1));
+    assertThat(result.toString(), is("Success[value=11]"));
+  }
+
+  @Test
+  public void testFailureChainKeepsInstance() throws Exception {
+    Result<String, String> failure = Result.failure(OOOH_NOOO);
+
+    Result<Integer, String> mapped = failure.map(String::length);
+
+    assertThat(mapped, sameInstance((Object) failure));
+    assertThat(mapped.or(-1), is(-1));
+    assertThat(mapped.value(), nullValue());
+    assertThat(failure.toString(), is("Failure[failure=Oooh! Nooo!]"));
+  }
+
+  @Test
+  public void testOfCatchesException() throws Exception {
+    Result<String, IOException> failure = Result.of(() -> {
+      throw new IOException(OOOH_NOOO);
+    });
+
+    assertThat(failure.isSuccess(), is(false));
+    assertThat(failure.error()
+                   .getMessage(), is(OOOH_NOOO));
+    assertThat(Result.<Integer, String>orFailWith(() -> Integer.parseInt("x"), OOOH_NOOO)
+                   .error(), is(OOOH_NOOO));
+    assertThat(Result.<Integer, String>orDefault(() -> Integer.parseInt("x"), 7)
+                   .value(), is(7));
+  }
+
+  @Test
+  public void testEmptyResultsAreShared() throws Exception {
+    assertThat(Result.success(null), sameInstance((Object) Result.success(null)));
+    assertThat(Result.failure(null)
+                   .isEmpty(), is(true));
+  }
+
+  @Test
+  public void testConvertsFromAndToCoreResult() throws Exception {
+    com.amatkivskiy.result.Result<String, String> core = com.amatkivskiy.result.Result.failure(OOOH_NOOO);
+
+    Result<String, String> sealed = Result.from(core);
+
+    assertThat(sealed, instanceOf(Failure.class));
+    assertThat(sealed.error(), is(OOOH_NOOO));
+    assertThat(sealed.toResult(), is(core));
+    assertThat(Result.from(com.amatkivskiy.result.Result.success(OOOH_YEAH)), is((Object) new Success<>(OOOH_YEAH)));
+  }
+
+  @Test
+  public void testMatchesSubtypes() throws Exception {
+    Result<Integer, String> result = Result.success(42);
+
+    String description;
+    if (result instanceof Success<Integer, String> success) {
+      description = "value " + success.value();
+    } else if (result instanceof Failure<Integer, String> failure) {
+      description = "error " + failure.error();
+    } else {
+      throw new AssertionError();
+    }
+
+    assertThat(description, is("value 42"));
+  }
+}
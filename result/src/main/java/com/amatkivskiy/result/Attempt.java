@@ -0,0 +1,17 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface that returns a value or reports failure to the given sink instead of throwing.
+ *
+ * @param <V> the output value type
+ * @param <E> the failure value type
+ */
+public interface Attempt<V, E> {
+  /**
+   * Runs the action. Once {@code failure} has been called the returned value is ignored. The sink is only valid
+   * until this method returns and must not be kept.
+   *
+   * @param failure sink for the failure value.
+   */
+  V call(Consumer<E> failure);
+}
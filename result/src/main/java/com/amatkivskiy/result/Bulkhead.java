@@ -0,0 +1,146 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of concurrent {@link Function} calls to a dependency. Calls above the limit are not queued: they
+ * return a preallocated {@link Failure} with {@link BulkheadFullException} right away and the function is never
+ * called.
+ * <ul>
+ * <li>{@link #semaphore(int)} has a fixed limit.</li>
+ * <li>{@link #adaptive(int, int, int, long, TimeUnit)} tunes the limit with AIMD from observed latency: every call
+ * slower than the threshold cuts the limit by 10%, every limit's worth of fast calls made while at least half of the
+ * limit was in use raises it by one.</li>
+ * </ul>
+ * Bulkhead is thread-safe and lock-free.
+ */
+public final class Bulkhead {
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final boolean adaptive;
+  private final Failure<?, ?> full;
+  private final AtomicInteger limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger credits = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  private Bulkhead(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, boolean adaptive) {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max, but were " + minLimit
+                                             + ", " + initialLimit + ", " + maxLimit + ".");
+    }
+
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+    this.adaptive = adaptive;
+    this.limit = new AtomicInteger(initialLimit);
+    this.full = new Failure<>(new BulkheadFullException("Bulkhead is full."));
+  }
+
+  /**
+   * Constructs bulkhead with fixed limit.
+   *
+   * @param maxConcurrentCalls maximum number of concurrent calls.
+   * @return new {@link Bulkhead}.
+   */
+  public static Bulkhead semaphore(int maxConcurrentCalls) {
+    return new Bulkhead(maxConcurrentCalls, maxConcurrentCalls, maxConcurrentCalls, Long.MAX_VALUE, false);
+  }
+
+  /**
+   * Constructs bulkhead with limit tuned from observed latency.
+   *
+   * @param initialLimit initial maximum number of concurrent calls.
+   * @param minLimit lower bound of the limit.
+   * @param maxLimit upper bound of the limit.
+   * @param latencyThreshold call duration that is considered a sign of overload.
+   * @param unit unit of latencyThreshold.
+   * @return new {@link Bulkhead}.
+   */
+  public static Bulkhead adaptive(int initialLimit, int minLimit, int maxLimit, long latencyThreshold,
+                                  TimeUnit unit) {
+    return new Bulkhead(initialLimit, minLimit, maxLimit, unit.toNanos(latencyThreshold), true);
+  }
+
+  /**
+   * Calls {@link Function} if the bulkhead is below its limit.
+   *
+   * @param suspect function to be called.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result} with {@link Function} return value, with {@link Exception} thrown during the call or
+   * with {@link BulkheadFullException} if the call has been rejected.
+   */
+  public <V, E extends Exception> Result<V, E> call(Function<V> suspect) {
+    int admitted = tryAcquire();
+    if (admitted == 0) {
+      rejected.incrementAndGet();
+      //noinspection unchecked
+      return (Result<V, E>) full;
+    }
+
+    long start = adaptive ? System.nanoTime() : 0;
+    try {
+      return Result.success(suspect.call());
+    } catch (Exception exception) {
+      //noinspection unchecked
+      return new Failure<>((E) exception);
+    } finally {
+      inFlight.decrementAndGet();
+      if (adaptive) {
+        adjust(System.nanoTime() - start, admitted);
+      }
+    }
+  }
+
+  /**
+   * @return current maximum number of concurrent calls.
+   */
+  public int limit() {
+    return limit.get();
+  }
+
+  /**
+   * @return number of calls running right now.
+   */
+  public int inFlightCount() {
+    return inFlight.get();
+  }
+
+  /**
+   * @return number of calls rejected since the bulkhead has been created.
+   */
+  public long rejectedCount() {
+    return rejected.get();
+  }
+
+  /**
+   * @return number of calls in flight including the admitted one, 0 if the call is rejected.
+   */
+  private int tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit.get()) return 0;
+      if (inFlight.compareAndSet(current, current + 1)) return current + 1;
+    }
+  }
+
+  private void adjust(long latencyNanos, int admitted) {
+    int current = limit.get();
+    if (latencyNanos >= latencyThresholdNanos) {
+      credits.set(0);
+      int reduced = Math.max(minLimit, Math.min(current - 1, (int) (current * BACKOFF_RATIO)));
+      limit.compareAndSet(current, reduced);
+    } else if (current < maxLimit && admitted * 2 >= current && credits.incrementAndGet() >= current) {
+      // Raising the limit of an underused bulkhead would let it grow without bound.
+      credits.set(0);
+      limit.compareAndSet(current, current + 1);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.amatkivskiy.result;
+
+/**
+ * Failure of {@link Bulkhead#call(Function)} while the bulkhead is at its concurrency limit. One instance is shared
+ * by every rejected call of a bulkhead.
+ */
+public class BulkheadFullException extends ResultException {
+  public BulkheadFullException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,90 @@
+package com.amatkivskiy.result;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a single instrumented call site collected by {@link HistogramResultMetrics}.
+ */
+public final class CallSiteMetrics {
+  private final ResultMetrics.Operation operation;
+  private final Class<?> callSite;
+  private final AtomicLong successes = new AtomicLong();
+  private final ConcurrentMap<Class<?>, AtomicLong> failures = new ConcurrentHashMap<>();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  CallSiteMetrics(ResultMetrics.Operation operation, Class<?> callSite) {
+    this.operation = operation;
+    this.callSite = callSite;
+  }
+
+  void record(boolean success, Object error, long durationNanos) {
+    if (success) {
+      successes.incrementAndGet();
+    } else {
+      // Null error is counted under Void.
+      Class<?> errorClass = error == null ? Void.class : error.getClass();
+      AtomicLong counter = failures.get(errorClass);
+      if (counter == null) {
+        AtomicLong created = new AtomicLong();
+        counter = failures.putIfAbsent(errorClass, created);
+        if (counter == null) {
+          counter = created;
+        }
+      }
+      counter.incrementAndGet();
+    }
+    latency.record(durationNanos);
+  }
+
+  public ResultMetrics.Operation operation() {
+    return operation;
+  }
+
+  /**
+   * @return class of the {@link Function} or {@link Transformer} of the call site.
+   */
+  public Class<?> callSite() {
+    return callSite;
+  }
+
+  public long successCount() {
+    return successes.get();
+  }
+
+  public long failureCount() {
+    long count = 0;
+    for (AtomicLong counter : failures.values()) {
+      count += counter.get();
+    }
+    return count;
+  }
+
+  /**
+   * @return snapshot of failure counts by error class.
+   */
+  public Map<Class<?>, Long> failureCounts() {
+    Map<Class<?>, Long> counts = new HashMap<>();
+    for (Map.Entry<Class<?>, AtomicLong> entry : failures.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue()
+          .get());
+    }
+    return counts;
+  }
+
+  /**
+   * @return histogram of call durations in nanoseconds, both successful and failed.
+   */
+  public LatencyHistogram latency() {
+    return latency;
+  }
+
+  @Override
+  public String toString() {
+    return "CallSiteMetrics[operation=" + operation + ", callSite=" + callSite.getName() + ", successes="
+        + successCount() + ", failures=" + failureCounts() + "]";
+  }
+}
@@ -0,0 +1,165 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Guards {@link Function} calls to a dependency. While the failure rate over the sliding window is below the
+ * threshold the breaker is {@link State#CLOSED} and calls go through as with {@link Result#of(Function)}. Once it
+ * reaches the threshold the breaker opens: calls return a preallocated {@link Failure} with
+ * {@link CircuitBreakerOpenException} right away and the function is never called. After the open duration a single
+ * trial call is let through ({@link State#HALF_OPEN}); its success closes the breaker, its failure opens it again.
+ * <p>
+ * A call that throws an {@link Error} counts as a failure, a trial call opens the breaker again, and the error is
+ * rethrown.
+ * <p>
+ * Breaker is thread-safe and lock-free.
+ */
+public final class CircuitBreaker {
+  /**
+   * State of {@link CircuitBreaker}.
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final int WINDOW_BUCKETS = 10;
+  private static final State[] STATES = State.values();
+  private static final int STATE_BITS = 2;
+  private static final long STATE_MASK = (1 << STATE_BITS) - 1;
+
+  private final double failureRateThreshold;
+  private final int minimumCalls;
+  private final long openNanos;
+  private final SlidingWindow window;
+  private final Failure<?, ?> open;
+  // State ordinal in the lowest bits, time the breaker has been opened at in the rest, so both change at once.
+  private final AtomicLong status = new AtomicLong(State.CLOSED.ordinal());
+  private final AtomicLong rejected = new AtomicLong();
+
+  /**
+   * @param failureRateThreshold failure rate in (0, 1] that opens the breaker.
+   * @param minimumCalls minimum number of calls in the window before failure rate is taken into account.
+   * @param window length of the sliding window.
+   * @param openDuration time the breaker stays open before letting a trial call through.
+   * @param unit unit of window and openDuration.
+   */
+  public CircuitBreaker(double failureRateThreshold, int minimumCalls, long window, long openDuration, TimeUnit unit) {
+    if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      throw new IllegalArgumentException(
+          "Failure rate threshold must be in (0, 1], but was " + failureRateThreshold + ".");
+    }
+
+    this.failureRateThreshold = failureRateThreshold;
+    this.minimumCalls = Math.max(1, minimumCalls);
+    this.openNanos = unit.toNanos(openDuration);
+    this.window = new SlidingWindow(WINDOW_BUCKETS, unit.toNanos(window));
+    this.open = new Failure<>(new CircuitBreakerOpenException("Circuit breaker is open."));
+  }
+
+  /**
+   * Calls {@link Function} if the breaker lets it through.
+   *
+   * @param suspect function to be called.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result} with {@link Function} return value, with {@link Exception} thrown during the call or
+   * with {@link CircuitBreakerOpenException} if the call has been rejected.
+   */
+  public <V, E extends Exception> Result<V, E> call(Function<V> suspect) {
+    boolean trial = false;
+    long current = status.get();
+    if (stateOf(current) != State.CLOSED) {
+      trial = stateOf(current) == State.OPEN
+          && elapsedSinceOpened(current, System.nanoTime()) >= openNanos
+          && status.compareAndSet(current, (current & ~STATE_MASK) | State.HALF_OPEN.ordinal());
+      if (!trial) {
+        rejected.incrementAndGet();
+        //noinspection unchecked
+        return (Result<V, E>) open;
+      }
+    }
+
+    try {
+      V value = suspect.call();
+      onSuccess(trial);
+      return Result.success(value);
+    } catch (Exception exception) {
+      onFailure(trial);
+      //noinspection unchecked
+      return new Failure<>((E) exception);
+    } catch (Throwable throwable) {
+      onFailure(trial);
+      throw throwable;
+    }
+  }
+
+  /**
+   * @return current state.
+   */
+  public State state() {
+    return stateOf(status.get());
+  }
+
+  /**
+   * @return number of successful calls in the current window.
+   */
+  public long successCount() {
+    return window.successes(System.nanoTime());
+  }
+
+  /**
+   * @return number of failed calls in the current window.
+   */
+  public long failureCount() {
+    return window.failures(System.nanoTime());
+  }
+
+  /**
+   * @return number of calls rejected since the breaker has been created.
+   */
+  public long rejectedCount() {
+    return rejected.get();
+  }
+
+  private void onSuccess(boolean trial) {
+    if (trial) {
+      window.reset();
+      status.set(State.CLOSED.ordinal());
+    } else {
+      window.record(true, System.nanoTime());
+    }
+  }
+
+  private void onFailure(boolean trial) {
+    long now = System.nanoTime();
+    if (trial) {
+      open(State.HALF_OPEN, now);
+      return;
+    }
+
+    window.record(false, now);
+    long failures = window.failures(now);
+    long calls = failures + window.successes(now);
+    if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+      open(State.CLOSED, now);
+    }
+  }
+
+  private void open(State from, long now) {
+    long opened = (now << STATE_BITS) | State.OPEN.ordinal();
+    long current;
+    do {
+      current = status.get();
+    } while (stateOf(current) == from && !status.compareAndSet(current, opened));
+  }
+
+  private static State stateOf(long status) {
+    return STATES[(int) (status & STATE_MASK)];
+  }
+
+  private static long elapsedSinceOpened(long status, long now) {
+    // Shifted difference stays correct when the shift drops the highest bits of nanoTime.
+    return ((now << STATE_BITS) - (status & ~STATE_MASK)) >> STATE_BITS;
+  }
+}
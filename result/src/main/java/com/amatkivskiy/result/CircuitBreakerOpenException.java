@@ -0,0 +1,11 @@
+package com.amatkivskiy.result;
+
+/**
+ * Failure of {@link CircuitBreaker#call(Function)} while the breaker does not let calls through. One instance is
+ * shared by every rejected call of a breaker.
+ */
+public class CircuitBreakerOpenException extends ResultException {
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,43 @@
+package com.amatkivskiy.result;
+
+/**
+ * {@link ResultMetrics} that records every call with every registered implementation enabled for it. Context of a
+ * call is an array of contexts of the implementations, so composing costs an allocation per recorded call.
+ */
+final class CompositeResultMetrics extends ResultMetrics {
+  private static final Object DISABLED = new Object();
+
+  private final ResultMetrics[] providers;
+
+  CompositeResultMetrics(ResultMetrics[] providers) {
+    this.providers = providers;
+  }
+
+  @Override
+  public boolean isEnabled(Operation operation) {
+    for (ResultMetrics provider : providers) {
+      if (provider.isEnabled(operation)) return true;
+    }
+    return false;
+  }
+
+  @Override
+  public Object begin(Operation operation) {
+    Object[] contexts = new Object[providers.length];
+    for (int i = 0; i < providers.length; i++) {
+      contexts[i] = providers[i].isEnabled(operation) ? providers[i].begin(operation) : DISABLED;
+    }
+    return contexts;
+  }
+
+  @Override
+  public void record(Operation operation, Class<?> callSite, boolean success, Object error, long durationNanos,
+                     Object context) {
+    Object[] contexts = (Object[]) context;
+    for (int i = 0; i < providers.length; i++) {
+      if (contexts[i] != DISABLED) {
+        providers[i].record(operation, callSite, success, error, durationNanos, contexts[i]);
+      }
+    }
+  }
+}
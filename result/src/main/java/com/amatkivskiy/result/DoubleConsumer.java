@@ -0,0 +1,11 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface (callback) that accepts a single {@code double} value.
+ */
+public interface DoubleConsumer {
+  /**
+   * Consume the given value.
+   */
+  void accept(double value);
+}
@@ -0,0 +1,188 @@
+package com.amatkivskiy.result;
+
+/**
+ * {@link Result} specialization for {@code double} values that never boxes successful value.
+ *
+ * @param <E> type of failure value.
+ */
+public final class DoubleResult<E> {
+  private static final DoubleResult<?> EMPTY_FAILURE = new DoubleResult<>(false, 0.0, null);
+
+  private final boolean success;
+  private final double value;
+  private final E error;
+
+  private DoubleResult(boolean success, double value, E error) {
+    this.success = success;
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * @return value if {@link #isSuccess()} returns true, {@code 0.0} otherwise.
+   */
+  public double value() {
+    return value;
+  }
+
+  /**
+   * @return error if {@link #isSuccess()} returns false, null otherwise.
+   */
+  public E error() {
+    return error;
+  }
+
+  /**
+   * @return true if successful, false otherwise.
+   */
+  public boolean isSuccess() {
+    return success;
+  }
+
+  /**
+   * Successful {@link DoubleResult} always holds a value.
+   *
+   * @return true if failure with null {@link #error()}.
+   */
+  public boolean isEmpty() {
+    return !success && error == null;
+  }
+
+  /**
+   * Consumes successful result, skips call otherwise.
+   *
+   * @return current {@link DoubleResult}.
+   */
+  public DoubleResult<E> onSuccess(DoubleConsumer consumer) {
+    if (success) consumer.accept(value);
+
+    return this;
+  }
+
+  /**
+   * Consumes failure result, skips call otherwise.
+   *
+   * @return current {@link DoubleResult}.
+   */
+  public DoubleResult<E> onFailure(Consumer<E> consumer) {
+    if (!success) consumer.accept(error);
+
+    return this;
+  }
+
+  /**
+   * Transforms successful value of this result, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link #value()}.
+   * @return new {@link DoubleResult} with transformed value or current failure.
+   */
+  public DoubleResult<E> map(DoubleTransformer transformer) {
+    if (success) {
+      return new DoubleResult<>(true, transformer.apply(value), null);
+    } else {
+      return this;
+    }
+  }
+
+  /**
+   * Transforms current {@link DoubleResult} into completely new {@link DoubleResult}.
+   *
+   * @param transformer function that transforms {@link DoubleResult}.
+   * @param <T> new failure type.
+   * @return new {@link DoubleResult}.
+   */
+  public <T> DoubleResult<T> flatMap(Transformer<DoubleResult<E>, DoubleResult<T>> transformer) {
+    return transformer.apply(this);
+  }
+
+  /**
+   * Returns successful value or fallback value otherwise.
+   *
+   * @param fallback value.
+   * @return value.
+   */
+  public double or(double fallback) {
+    return success ? value : fallback;
+  }
+
+  /**
+   * Converts to generic {@link Result}, boxing successful value.
+   *
+   * @return new {@link Result}.
+   */
+  public Result<Double, E> toResult() {
+    return success ? Result.<Double, E>success(value) : Result.<Double, E>failure(error);
+  }
+
+  /**
+   * Constructs successful result.
+   *
+   * @param value successful value.
+   * @param <E> type of failure value.
+   * @return new {@link DoubleResult}.
+   */
+  public static <E> DoubleResult<E> success(double value) {
+    return new DoubleResult<>(true, value, null);
+  }
+
+  /**
+   * Constructs failure result. Empty failure is a shared immutable instance.
+   *
+   * @param error error value.
+   * @param <E> type of failure value.
+   * @return new {@link DoubleResult}.
+   */
+  public static <E> DoubleResult<E> failure(E error) {
+    if (error == null) {
+      //noinspection unchecked
+      return (DoubleResult<E>) EMPTY_FAILURE;
+    }
+
+    return new DoubleResult<>(false, 0.0, error);
+  }
+
+  /**
+   * Converts generic {@link Result} into {@link DoubleResult}, unboxing successful value.
+   *
+   * @param result generic result, successful value must not be null.
+   * @param <E> type of failure value.
+   * @return new {@link DoubleResult}.
+   */
+  public static <E> DoubleResult<E> from(Result<Double, E> result) {
+    if (result.isSuccess()) {
+      Double value = result.value();
+      if (value == null) {
+        throw new IllegalArgumentException("DoubleResult can not hold empty successful value.");
+      }
+      return success(value);
+    } else {
+      return failure(result.error());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return success ? "DoubleSuccess[value=" + value + "]" : "DoubleFailure[failure=" + error + "]";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    DoubleResult<?> that = (DoubleResult<?>) o;
+
+    if (success != that.success) return false;
+    if (success) return Double.doubleToLongBits(value) == Double.doubleToLongBits(that.value);
+    return error != null ? error.equals(that.error) : that.error == null;
+  }
+
+  @Override
+  public int hashCode() {
+    if (success) {
+      long bits = Double.doubleToLongBits(value);
+      return (int) (bits ^ (bits >>> 32));
+    }
+    return error != null ? error.hashCode() : 0;
+  }
+}
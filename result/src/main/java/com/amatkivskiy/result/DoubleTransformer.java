@@ -0,0 +1,14 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface that transforms one {@code double} value into another.
+ */
+public interface DoubleTransformer {
+  /**
+   * Apply some transformation to the input value and return other value.
+   *
+   * @param value the input value
+   * @return the output value
+   */
+  double apply(double value);
+}
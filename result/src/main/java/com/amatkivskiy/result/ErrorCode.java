@@ -0,0 +1,67 @@
+package com.amatkivskiy.result;
+
+/**
+ * Fixed kind of error identified by an int code, meant to be interned in a {@link FailureTable} and used as the
+ * failure value instead of a fresh {@link Exception} or {@link String} per call.
+ * <p>
+ * Equality is identity: an interned code is equal only to itself, so comparing failures costs a reference
+ * comparison. Copies made by {@link #withContext(Object)} are distinct objects, compare them with
+ * {@link #sameCode(ErrorCode)}.
+ */
+public final class ErrorCode {
+  private final int code;
+  private final String message;
+  private final Object context;
+
+  public ErrorCode(int code, String message) {
+    this(code, message, null);
+  }
+
+  private ErrorCode(int code, String message, Object context) {
+    this.code = code;
+    this.message = message;
+    this.context = context;
+  }
+
+  public int code() {
+    return code;
+  }
+
+  public String message() {
+    return message;
+  }
+
+  /**
+   * @return context attached with {@link #withContext(Object)}, null for interned codes.
+   */
+  public Object context() {
+    return context;
+  }
+
+  /**
+   * Returns copy of this code with context, e.g. the offending value or position.
+   *
+   * @param context context value.
+   * @return new {@link ErrorCode}.
+   */
+  public ErrorCode withContext(Object context) {
+    return new ErrorCode(code, message, context);
+  }
+
+  /**
+   * @return true if the other error has the same code, regardless of context.
+   */
+  public boolean sameCode(ErrorCode other) {
+    return other != null && code == other.code;
+  }
+
+  @Override
+  public int hashCode() {
+    return code;
+  }
+
+  @Override
+  public String toString() {
+    return "ErrorCode[code=" + code + ", message=" + message + (context == null ? "" : ", context=" + context) + "]";
+  }
+}
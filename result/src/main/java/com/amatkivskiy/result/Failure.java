@@ -1,12 +1,26 @@
 package com.amatkivskiy.result;
 
 public class Failure<V, E> extends Result<V, E> {
-  private E error;
+  private static final Failure<?, ?> EMPTY = new Failure<>(null);
+
+  private final E error;
 
   public Failure(E error) {
     this.error = error;
   }
 
+  /**
+   * Returns shared immutable instance for null error, new {@link Failure} otherwise.
+   */
+  static <V, E> Failure<V, E> cached(E error) {
+    if (error == null) {
+      //noinspection unchecked
+      return (Failure<V, E>) EMPTY;
+    }
+
+    return new Failure<>(error);
+  }
+
   @Override
   public V value() {
     return null;
@@ -39,7 +53,8 @@ public class Failure<V, E> extends Result<V, E> {
 
     Failure failure = (Failure) o;
 
-    return error != null ? error.equals(failure.error) : failure.error == null;
+    // Interned errors (enum constants, ErrorCode) are compared by identity only.
+    return error == failure.error || error != null && error.equals(failure.error);
   }
 
   @Override
@@ -0,0 +1,41 @@
+package com.amatkivskiy.result;
+
+/**
+ * {@link Consumer} that remembers the first failure reported by an {@link Attempt}. Each thread reuses its own sink,
+ * a new one is only created for an attempt nested in another attempt on the same thread.
+ */
+final class FailureSink<E> implements Consumer<E> {
+  private static final ThreadLocal<FailureSink<?>> CURRENT = new ThreadLocal<FailureSink<?>>() {
+    @Override protected FailureSink<?> initialValue() {
+      return new FailureSink<>();
+    }
+  };
+
+  boolean failed;
+  E error;
+  private boolean inUse;
+
+  static <E> FailureSink<E> acquire() {
+    //noinspection unchecked
+    FailureSink<E> sink = (FailureSink<E>) CURRENT.get();
+    if (sink.inUse) {
+      sink = new FailureSink<>();
+    }
+    sink.inUse = true;
+    return sink;
+  }
+
+  void release() {
+    failed = false;
+    error = null;
+    inUse = false;
+  }
+
+  @Override
+  public void accept(E value) {
+    if (!failed) {
+      failed = true;
+      error = value;
+    }
+  }
+}
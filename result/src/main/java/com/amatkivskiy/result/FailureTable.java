@@ -0,0 +1,120 @@
+package com.amatkivskiy.result;
+
+import java.util.Arrays;
+
+/**
+ * Interned {@link Failure}s of a fixed set of errors: constants of an enum or {@link ErrorCode}s. Returning a failure
+ * from the table costs an array lookup, no objects are allocated.
+ *
+ * @param <E> type of failure value.
+ */
+public final class FailureTable<E> {
+  private static final int MAX_CODE_RANGE = 1 << 16;
+
+  private final Failure<?, E>[] failures;
+  private final int offset;
+
+  private FailureTable(Failure<?, E>[] failures, int offset) {
+    this.failures = failures;
+    this.offset = offset;
+  }
+
+  /**
+   * Constructs table with a failure for every constant of the enum.
+   *
+   * @param codes enum class.
+   * @param <C> type of enum.
+   * @return new {@link FailureTable}.
+   */
+  public static <C extends Enum<C>> FailureTable<C> of(Class<C> codes) {
+    C[] constants = codes.getEnumConstants();
+    Failure<?, C>[] failures = newFailures(constants.length);
+    for (C constant : constants) {
+      failures[constant.ordinal()] = new Failure<>(constant);
+    }
+    return new FailureTable<>(failures, 0);
+  }
+
+  /**
+   * Constructs table with a failure for every code.
+   *
+   * @param codes distinct codes, their range must not exceed 65536.
+   * @return new {@link FailureTable}.
+   */
+  public static FailureTable<ErrorCode> of(ErrorCode... codes) {
+    if (codes.length == 0) {
+      throw new IllegalArgumentException("At least one code is required.");
+    }
+
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (ErrorCode code : codes) {
+      min = Math.min(min, code.code());
+      max = Math.max(max, code.code());
+    }
+    if ((long) max - min >= MAX_CODE_RANGE) {
+      throw new IllegalArgumentException("Range of codes must not exceed " + MAX_CODE_RANGE + ", but was ["
+                                             + min + ", " + max + "].");
+    }
+
+    Failure<?, ErrorCode>[] failures = newFailures(max - min + 1);
+    for (ErrorCode code : codes) {
+      if (failures[code.code() - min] != null) {
+        throw new IllegalArgumentException("Duplicate code " + code.code() + ".");
+      }
+      failures[code.code() - min] = new Failure<>(code);
+    }
+    return new FailureTable<>(failures, min);
+  }
+
+  /**
+   * Returns interned failure of the code: ordinal of the enum constant or {@link ErrorCode#code()}.
+   *
+   * @param code code of the error.
+   * @param <V> type of successful value.
+   * @return interned {@link Failure}.
+   * @throws IllegalArgumentException if the table has no such code.
+   */
+  public <V> Result<V, E> failure(int code) {
+    int index = code - offset;
+    if (index < 0 || index >= failures.length || failures[index] == null) {
+      throw new IllegalArgumentException("Unknown code " + code + ".");
+    }
+
+    //noinspection unchecked
+    return (Result<V, E>) failures[index];
+  }
+
+  /**
+   * Returns interned failure if the error is interned in the table, new {@link Failure} otherwise (e.g. for
+   * {@link ErrorCode#withContext(Object)} copies).
+   *
+   * @param error error value.
+   * @param <V> type of successful value.
+   * @return interned or new {@link Failure}.
+   */
+  public <V> Result<V, E> failure(E error) {
+    int index = indexOf(error);
+    if (index >= 0 && index < failures.length && failures[index] != null && failures[index].error() == error) {
+      //noinspection unchecked
+      return (Result<V, E>) failures[index];
+    }
+    return new Failure<>(error);
+  }
+
+  @Override
+  public String toString() {
+    return "FailureTable" + Arrays.toString(failures);
+  }
+
+  private int indexOf(E error) {
+    if (error instanceof Enum) return ((Enum<?>) error).ordinal();
+    if (error instanceof ErrorCode) return ((ErrorCode) error).code() - offset;
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> Failure<?, E>[] newFailures(int size) {
+    return (Failure<?, E>[]) new Failure<?, ?>[size];
+  }
+}
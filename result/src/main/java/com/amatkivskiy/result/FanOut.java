@@ -0,0 +1,194 @@
+package com.amatkivskiy.result;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link Function}s concurrently with a deadline and cancels the ones that are no longer needed.
+ * <p>
+ * Every call gets its own virtual-thread-per-task executor when the runtime has one (Java 21+), otherwise the
+ * functions run on a shared pool of daemon platform threads.
+ */
+final class FanOut {
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutorFactory();
+
+  private FanOut() {
+  }
+
+  static <V, E extends Exception> Result<List<V>, E> all(List<? extends Function<V>> suspects, long timeout,
+                                                         TimeUnit unit) {
+    ExecutorService executor = newVirtualThreadExecutor();
+    if (executor == null) {
+      return all(suspects, timeout, unit, SharedPool.INSTANCE);
+    }
+
+    try {
+      return all(suspects, timeout, unit, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  static <V, E extends Exception> Result<V, E> any(List<? extends Function<V>> suspects, long timeout,
+                                                   TimeUnit unit) {
+    ExecutorService executor = newVirtualThreadExecutor();
+    if (executor == null) {
+      return any(suspects, timeout, unit, SharedPool.INSTANCE);
+    }
+
+    try {
+      return any(suspects, timeout, unit, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  static <V, E extends Exception> Result<List<V>, E> all(List<? extends Function<V>> suspects, long timeout,
+                                                         TimeUnit unit, ExecutorService executor) {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    CompletionService<Result<V, E>> completion = new ExecutorCompletionService<>(executor);
+    List<Future<Result<V, E>>> futures = new ArrayList<>(suspects.size());
+
+    try {
+      for (Function<V> suspect : suspects) {
+        futures.add(completion.submit(FanOut.<V, E>callable(suspect)));
+      }
+
+      for (int completed = 0; completed < futures.size(); completed++) {
+        Future<Result<V, E>> future = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (future == null) {
+          return timeout(timeout, unit);
+        }
+        Result<V, E> result = getDone(future);
+        if (!result.isSuccess()) {
+          // Failure holds no value, so it is valid for any successful type.
+          //noinspection unchecked
+          return (Result<List<V>, E>) (Result<?, E>) result;
+        }
+      }
+
+      List<V> values = new ArrayList<>(futures.size());
+      for (Future<Result<V, E>> future : futures) {
+        values.add(getDone(future).value());
+      }
+      return Result.success(values);
+    } catch (InterruptedException exception) {
+      Thread.currentThread()
+          .interrupt();
+      //noinspection unchecked
+      return Result.failure((E) exception);
+    } finally {
+      cancel(futures);
+    }
+  }
+
+  static <V, E extends Exception> Result<V, E> any(List<? extends Function<V>> suspects, long timeout,
+                                                   TimeUnit unit, ExecutorService executor) {
+    if (suspects.isEmpty()) {
+      throw new IllegalArgumentException("At least one suspect is required.");
+    }
+
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    CompletionService<Result<V, E>> completion = new ExecutorCompletionService<>(executor);
+    List<Future<Result<V, E>>> futures = new ArrayList<>(suspects.size());
+
+    try {
+      for (Function<V> suspect : suspects) {
+        futures.add(completion.submit(FanOut.<V, E>callable(suspect)));
+      }
+
+      Result<V, E> failure = null;
+      for (int completed = 0; completed < futures.size(); completed++) {
+        Future<Result<V, E>> future = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (future == null) {
+          return timeout(timeout, unit);
+        }
+        Result<V, E> result = getDone(future);
+        if (result.isSuccess()) {
+          return result;
+        }
+        failure = result;
+      }
+      return failure;
+    } catch (InterruptedException exception) {
+      Thread.currentThread()
+          .interrupt();
+      //noinspection unchecked
+      return Result.failure((E) exception);
+    } finally {
+      cancel(futures);
+    }
+  }
+
+  private static <V, E extends Exception> Callable<Result<V, E>> callable(final Function<V> suspect) {
+    return new Callable<Result<V, E>>() {
+      @Override public Result<V, E> call() {
+        return Result.of(suspect);
+      }
+    };
+  }
+
+  private static <V, E> Result<V, E> getDone(Future<Result<V, E>> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException exception) {
+      // Result.of() captures every Exception, so only Error can get here.
+      Throwable cause = exception.getCause();
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static <V, E extends Exception> Result<V, E> timeout(long timeout, TimeUnit unit) {
+    //noinspection unchecked
+    return Result.failure((E) new TimeoutException("Timed out after " + timeout + " " + unit + "."));
+  }
+
+  private static void cancel(List<? extends Future<?>> futures) {
+    for (Future<?> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    if (NEW_VIRTUAL_THREAD_EXECUTOR == null) return null;
+
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+    } catch (Exception ignored) {
+      return null;
+    }
+  }
+
+  private static Method virtualThreadExecutorFactory() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (Exception ignored) {
+      return null;
+    }
+  }
+
+  private static final class SharedPool {
+    static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "result-fan-out-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+}
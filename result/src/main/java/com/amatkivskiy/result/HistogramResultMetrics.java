@@ -0,0 +1,59 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ResultMetrics} that keeps success and failure counts by error class and a {@link LatencyHistogram} for every
+ * call site. Once a call site is known, recording is lock-free and allocation-free.
+ * <p>
+ * Exporters (Micrometer, JMX) read {@link #callSites()} of the instance returned by
+ * {@link ResultMetrics#installed(Class)}.
+ */
+public class HistogramResultMetrics extends ResultMetrics {
+  private final ConcurrentMap<Class<?>, CallSiteMetrics>[] callSites;
+
+  public HistogramResultMetrics() {
+    //noinspection unchecked
+    this.callSites = (ConcurrentMap<Class<?>, CallSiteMetrics>[]) new ConcurrentMap<?, ?>[Operation.values().length];
+    for (int i = 0; i < callSites.length; i++) {
+      callSites[i] = new ConcurrentHashMap<>();
+    }
+  }
+
+  @Override
+  public void record(Operation operation, Class<?> callSite, boolean success, Object error, long durationNanos,
+                     Object context) {
+    ConcurrentMap<Class<?>, CallSiteMetrics> metrics = callSites[operation.ordinal()];
+    CallSiteMetrics callSiteMetrics = metrics.get(callSite);
+    if (callSiteMetrics == null) {
+      CallSiteMetrics created = new CallSiteMetrics(operation, callSite);
+      callSiteMetrics = metrics.putIfAbsent(callSite, created);
+      if (callSiteMetrics == null) {
+        callSiteMetrics = created;
+      }
+    }
+    callSiteMetrics.record(success, error, durationNanos);
+  }
+
+  /**
+   * @return metrics of all call sites recorded so far.
+   */
+  public Collection<CallSiteMetrics> callSites() {
+    List<CallSiteMetrics> all = new ArrayList<>();
+    for (ConcurrentMap<Class<?>, CallSiteMetrics> metrics : callSites) {
+      all.addAll(metrics.values());
+    }
+    return all;
+  }
+
+  /**
+   * @return metrics of the call site, null if it was not recorded.
+   */
+  public CallSiteMetrics callSite(Operation operation, Class<?> callSite) {
+    return callSites[operation.ordinal()].get(callSite);
+  }
+}
@@ -0,0 +1,87 @@
+package com.amatkivskiy.result;
+
+import com.amatkivskiy.result.ResultMetrics.Operation;
+
+/**
+ * Instrumented versions of {@link Result} operations, {@link Result} switches to them only when
+ * {@link ResultMetrics#ENABLED} is set and the installed metrics are enabled for the operation. Metrics are recorded
+ * outside of try blocks, so an exception thrown by {@link ResultMetrics} is never mistaken for a failure of the
+ * function.
+ */
+final class Instrumentation {
+  private Instrumentation() {
+  }
+
+  static <V, E extends Exception> Result<V, E> of(ResultMetrics metrics, Function<V> suspect) {
+    Object context = metrics.begin(Operation.OF);
+    long start = System.nanoTime();
+    V value;
+    try {
+      value = suspect.call();
+    } catch (Exception exception) {
+      metrics.record(Operation.OF, suspect.getClass(), false, exception, System.nanoTime() - start, context);
+      //noinspection unchecked
+      return new Failure<>((E) exception);
+    }
+    metrics.record(Operation.OF, suspect.getClass(), true, null, System.nanoTime() - start, context);
+    return Result.success(value);
+  }
+
+  static <V, E> Result<V, E> orFailWith(ResultMetrics metrics, Function<V> suspect, E error) {
+    Object context = metrics.begin(Operation.OR_FAIL_WITH);
+    long start = System.nanoTime();
+    V value;
+    try {
+      value = suspect.call();
+    } catch (Exception exception) {
+      metrics.record(Operation.OR_FAIL_WITH, suspect.getClass(), false, exception, System.nanoTime() - start, context);
+      return Result.failure(error);
+    }
+    metrics.record(Operation.OR_FAIL_WITH, suspect.getClass(), true, null, System.nanoTime() - start, context);
+    return Result.success(value);
+  }
+
+  static <V, E> Result<V, E> orDefault(ResultMetrics metrics, Function<V> suspect, V fallbackValue) {
+    Object context = metrics.begin(Operation.OR_DEFAULT);
+    long start = System.nanoTime();
+    V value;
+    try {
+      value = suspect.call();
+    } catch (Exception exception) {
+      metrics.record(Operation.OR_DEFAULT, suspect.getClass(), false, exception, System.nanoTime() - start, context);
+      return Result.success(fallbackValue);
+    }
+    metrics.record(Operation.OR_DEFAULT, suspect.getClass(), true, null, System.nanoTime() - start, context);
+    return Result.success(value);
+  }
+
+  static <V, E, P> Result<P, E> map(ResultMetrics metrics, Result<V, E> result, Transformer<V, P> transformer) {
+    Object context = metrics.begin(Operation.MAP);
+    long start = System.nanoTime();
+    P value;
+    try {
+      value = transformer.apply(result.value());
+    } catch (RuntimeException exception) {
+      metrics.record(Operation.MAP, transformer.getClass(), false, exception, System.nanoTime() - start, context);
+      throw exception;
+    }
+    metrics.record(Operation.MAP, transformer.getClass(), true, null, System.nanoTime() - start, context);
+    return Result.success(value);
+  }
+
+  static <V, E, P, T> Result<P, T> flatMap(ResultMetrics metrics, Result<V, E> result,
+                                           Transformer<Result<V, E>, Result<P, T>> transformer) {
+    Object context = metrics.begin(Operation.FLAT_MAP);
+    long start = System.nanoTime();
+    Result<P, T> mapped;
+    try {
+      mapped = transformer.apply(result);
+    } catch (RuntimeException exception) {
+      metrics.record(Operation.FLAT_MAP, transformer.getClass(), false, exception, System.nanoTime() - start, context);
+      throw exception;
+    }
+    metrics.record(Operation.FLAT_MAP, transformer.getClass(), mapped.isSuccess(), mapped.error(),
+                   System.nanoTime() - start, context);
+    return mapped;
+  }
+}
@@ -0,0 +1,11 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface (callback) that accepts a single {@code int} value.
+ */
+public interface IntConsumer {
+  /**
+   * Consume the given value.
+   */
+  void accept(int value);
+}
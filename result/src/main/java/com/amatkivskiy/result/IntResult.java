@@ -0,0 +1,187 @@
+package com.amatkivskiy.result;
+
+/**
+ * {@link Result} specialization for {@code int} values that never boxes successful value.
+ *
+ * @param <E> type of failure value.
+ */
+public final class IntResult<E> {
+  private static final IntResult<?> EMPTY_FAILURE = new IntResult<>(false, 0, null);
+
+  private final boolean success;
+  private final int value;
+  private final E error;
+
+  private IntResult(boolean success, int value, E error) {
+    this.success = success;
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * @return value if {@link #isSuccess()} returns true, {@code 0} otherwise.
+   */
+  public int value() {
+    return value;
+  }
+
+  /**
+   * @return error if {@link #isSuccess()} returns false, null otherwise.
+   */
+  public E error() {
+    return error;
+  }
+
+  /**
+   * @return true if successful, false otherwise.
+   */
+  public boolean isSuccess() {
+    return success;
+  }
+
+  /**
+   * Successful {@link IntResult} always holds a value.
+   *
+   * @return true if failure with null {@link #error()}.
+   */
+  public boolean isEmpty() {
+    return !success && error == null;
+  }
+
+  /**
+   * Consumes successful result, skips call otherwise.
+   *
+   * @return current {@link IntResult}.
+   */
+  public IntResult<E> onSuccess(IntConsumer consumer) {
+    if (success) consumer.accept(value);
+
+    return this;
+  }
+
+  /**
+   * Consumes failure result, skips call otherwise.
+   *
+   * @return current {@link IntResult}.
+   */
+  public IntResult<E> onFailure(Consumer<E> consumer) {
+    if (!success) consumer.accept(error);
+
+    return this;
+  }
+
+  /**
+   * Transforms successful value of this result, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link #value()}.
+   * @return new {@link IntResult} with transformed value or current failure.
+   */
+  public IntResult<E> map(IntTransformer transformer) {
+    if (success) {
+      return new IntResult<>(true, transformer.apply(value), null);
+    } else {
+      return this;
+    }
+  }
+
+  /**
+   * Transforms current {@link IntResult} into completely new {@link IntResult}.
+   *
+   * @param transformer function that transforms {@link IntResult}.
+   * @param <T> new failure type.
+   * @return new {@link IntResult}.
+   */
+  public <T> IntResult<T> flatMap(Transformer<IntResult<E>, IntResult<T>> transformer) {
+    return transformer.apply(this);
+  }
+
+  /**
+   * Returns successful value or fallback value otherwise.
+   *
+   * @param fallback value.
+   * @return value.
+   */
+  public int or(int fallback) {
+    return success ? value : fallback;
+  }
+
+  /**
+   * Converts to generic {@link Result}, boxing successful value.
+   *
+   * @return new {@link Result}.
+   */
+  public Result<Integer, E> toResult() {
+    return success ? Result.<Integer, E>success(value) : Result.<Integer, E>failure(error);
+  }
+
+  /**
+   * Constructs successful result.
+   *
+   * @param value successful value.
+   * @param <E> type of failure value.
+   * @return new {@link IntResult}.
+   */
+  public static <E> IntResult<E> success(int value) {
+    return new IntResult<>(true, value, null);
+  }
+
+  /**
+   * Constructs failure result. Empty failure is a shared immutable instance.
+   *
+   * @param error error value.
+   * @param <E> type of failure value.
+   * @return new {@link IntResult}.
+   */
+  public static <E> IntResult<E> failure(E error) {
+    if (error == null) {
+      //noinspection unchecked
+      return (IntResult<E>) EMPTY_FAILURE;
+    }
+
+    return new IntResult<>(false, 0, error);
+  }
+
+  /**
+   * Converts generic {@link Result} into {@link IntResult}, unboxing successful value.
+   *
+   * @param result generic result, successful value must not be null.
+   * @param <E> type of failure value.
+   * @return new {@link IntResult}.
+   */
+  public static <E> IntResult<E> from(Result<Integer, E> result) {
+    if (result.isSuccess()) {
+      Integer value = result.value();
+      if (value == null) {
+        throw new IllegalArgumentException("IntResult can not hold empty successful value.");
+      }
+      return success(value);
+    } else {
+      return failure(result.error());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return success ? "IntSuccess[value=" + value + "]" : "IntFailure[failure=" + error + "]";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    IntResult<?> that = (IntResult<?>) o;
+
+    if (success != that.success) return false;
+    if (success) return value == that.value;
+    return error != null ? error.equals(that.error) : that.error == null;
+  }
+
+  @Override
+  public int hashCode() {
+    if (success) {
+      return value;
+    }
+    return error != null ? error.hashCode() : 0;
+  }
+}
@@ -0,0 +1,11 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface (callback) that accepts a single {@code long} value.
+ */
+public interface LongConsumer {
+  /**
+   * Consume the given value.
+   */
+  void accept(long value);
+}
@@ -0,0 +1,187 @@
+package com.amatkivskiy.result;
+
+/**
+ * {@link Result} specialization for {@code long} values that never boxes successful value.
+ *
+ * @param <E> type of failure value.
+ */
+public final class LongResult<E> {
+  private static final LongResult<?> EMPTY_FAILURE = new LongResult<>(false, 0L, null);
+
+  private final boolean success;
+  private final long value;
+  private final E error;
+
+  private LongResult(boolean success, long value, E error) {
+    this.success = success;
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * @return value if {@link #isSuccess()} returns true, {@code 0L} otherwise.
+   */
+  public long value() {
+    return value;
+  }
+
+  /**
+   * @return error if {@link #isSuccess()} returns false, null otherwise.
+   */
+  public E error() {
+    return error;
+  }
+
+  /**
+   * @return true if successful, false otherwise.
+   */
+  public boolean isSuccess() {
+    return success;
+  }
+
+  /**
+   * Successful {@link LongResult} always holds a value.
+   *
+   * @return true if failure with null {@link #error()}.
+   */
+  public boolean isEmpty() {
+    return !success && error == null;
+  }
+
+  /**
+   * Consumes successful result, skips call otherwise.
+   *
+   * @return current {@link LongResult}.
+   */
+  public LongResult<E> onSuccess(LongConsumer consumer) {
+    if (success) consumer.accept(value);
+
+    return this;
+  }
+
+  /**
+   * Consumes failure result, skips call otherwise.
+   *
+   * @return current {@link LongResult}.
+   */
+  public LongResult<E> onFailure(Consumer<E> consumer) {
+    if (!success) consumer.accept(error);
+
+    return this;
+  }
+
+  /**
+   * Transforms successful value of this result, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link #value()}.
+   * @return new {@link LongResult} with transformed value or current failure.
+   */
+  public LongResult<E> map(LongTransformer transformer) {
+    if (success) {
+      return new LongResult<>(true, transformer.apply(value), null);
+    } else {
+      return this;
+    }
+  }
+
+  /**
+   * Transforms current {@link LongResult} into completely new {@link LongResult}.
+   *
+   * @param transformer function that transforms {@link LongResult}.
+   * @param <T> new failure type.
+   * @return new {@link LongResult}.
+   */
+  public <T> LongResult<T> flatMap(Transformer<LongResult<E>, LongResult<T>> transformer) {
+    return transformer.apply(this);
+  }
+
+  /**
+   * Returns successful value or fallback value otherwise.
+   *
+   * @param fallback value.
+   * @return value.
+   */
+  public long or(long fallback) {
+    return success ? value : fallback;
+  }
+
+  /**
+   * Converts to generic {@link Result}, boxing successful value.
+   *
+   * @return new {@link Result}.
+   */
+  public Result<Long, E> toResult() {
+    return success ? Result.<Long, E>success(value) : Result.<Long, E>failure(error);
+  }
+
+  /**
+   * Constructs successful result.
+   *
+   * @param value successful value.
+   * @param <E> type of failure value.
+   * @return new {@link LongResult}.
+   */
+  public static <E> LongResult<E> success(long value) {
+    return new LongResult<>(true, value, null);
+  }
+
+  /**
+   * Constructs failure result. Empty failure is a shared immutable instance.
+   *
+   * @param error error value.
+   * @param <E> type of failure value.
+   * @return new {@link LongResult}.
+   */
+  public static <E> LongResult<E> failure(E error) {
+    if (error == null) {
+      //noinspection unchecked
+      return (LongResult<E>) EMPTY_FAILURE;
+    }
+
+    return new LongResult<>(false, 0L, error);
+  }
+
+  /**
+   * Converts generic {@link Result} into {@link LongResult}, unboxing successful value.
+   *
+   * @param result generic result, successful value must not be null.
+   * @param <E> type of failure value.
+   * @return new {@link LongResult}.
+   */
+  public static <E> LongResult<E> from(Result<Long, E> result) {
+    if (result.isSuccess()) {
+      Long value = result.value();
+      if (value == null) {
+        throw new IllegalArgumentException("LongResult can not hold empty successful value.");
+      }
+      return success(value);
+    } else {
+      return failure(result.error());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return success ? "LongSuccess[value=" + value + "]" : "LongFailure[failure=" + error + "]";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    LongResult<?> that = (LongResult<?>) o;
+
+    if (success != that.success) return false;
+    if (success) return value == that.value;
+    return error != null ? error.equals(that.error) : that.error == null;
+  }
+
+  @Override
+  public int hashCode() {
+    if (success) {
+      return (int) (value ^ (value >>> 32));
+    }
+    return error != null ? error.hashCode() : 0;
+  }
+}
@@ -0,0 +1,14 @@
+package com.amatkivskiy.result;
+
+/**
+ * A functional interface that transforms one {@code long} value into another.
+ */
+public interface LongTransformer {
+  /**
+   * Apply some transformation to the input value and return other value.
+   *
+   * @param value the input value
+   * @return the output value
+   */
+  long apply(long value);
+}
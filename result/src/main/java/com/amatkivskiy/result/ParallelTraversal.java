@@ -0,0 +1,149 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies {@link Transformer} to every input in parallel and keeps results in input order.
+ * <p>
+ * In fail-fast mode workers skip every input behind the lowest failed index found so far, so outstanding work is
+ * cancelled cooperatively while every input in front of the first failure is still evaluated. That makes the outcome
+ * the same as the one of the sequential {@link Results#traverse(Iterable, Transformer)}.
+ */
+final class ParallelTraversal<T, V, E> {
+  private static final int CHUNKS_PER_THREAD = 4;
+  private static final int NO_FAILURE = Integer.MAX_VALUE;
+
+  private final List<T> inputs;
+  private final Transformer<T, Result<V, E>> transformer;
+  private final boolean failFast;
+  private final Result<V, E>[] results;
+  private final AtomicInteger firstFailure = new AtomicInteger(NO_FAILURE);
+
+  ParallelTraversal(List<T> inputs, Transformer<T, Result<V, E>> transformer, boolean failFast) {
+    this.inputs = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+    this.transformer = transformer;
+    this.failFast = failFast;
+    //noinspection unchecked
+    this.results = (Result<V, E>[]) new Result<?, ?>[inputs.size()];
+  }
+
+  List<Result<V, E>> runOn(ForkJoinPool pool) {
+    pool.invoke(new Chunk(0, results.length, chunkSize(pool.getParallelism())));
+
+    return Arrays.asList(results);
+  }
+
+  List<Result<V, E>> runOn(Executor executor) {
+    int chunkSize = chunkSize(Runtime.getRuntime()
+                                  .availableProcessors());
+    int chunks = (results.length + chunkSize - 1) / chunkSize;
+    final CountDownLatch done = new CountDownLatch(chunks);
+    final AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+    for (int from = 0; from < results.length; from += chunkSize) {
+      final int start = from;
+      final int end = Math.min(from + chunkSize, results.length);
+      executor.execute(new Runnable() {
+        @Override public void run() {
+          try {
+            evaluate(start, end);
+          } catch (Throwable throwable) {
+            thrown.compareAndSet(null, throwable);
+            cancel();
+          } finally {
+            done.countDown();
+          }
+        }
+      });
+    }
+
+    boolean interrupted = false;
+    while (true) {
+      try {
+        done.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+        cancel();
+      }
+    }
+
+    if (thrown.get() != null) {
+      throw propagate(thrown.get());
+    }
+    if (interrupted) {
+      Thread.currentThread()
+          .interrupt();
+      throw new CancellationException("Interrupted while waiting for parallel traversal.");
+    }
+
+    return Arrays.asList(results);
+  }
+
+  private void evaluate(int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (i > firstFailure.get()) return;
+
+      Result<V, E> result = transformer.apply(inputs.get(i));
+      results[i] = result;
+      if (failFast && !result.isSuccess()) {
+        lowerFirstFailure(i);
+        return;
+      }
+    }
+  }
+
+  private void lowerFirstFailure(int index) {
+    int current;
+    do {
+      current = firstFailure.get();
+    } while (index < current && !firstFailure.compareAndSet(current, index));
+  }
+
+  private void cancel() {
+    firstFailure.set(-1);
+  }
+
+  private int chunkSize(int parallelism) {
+    return Math.max(1, results.length / (parallelism * CHUNKS_PER_THREAD));
+  }
+
+  private static RuntimeException propagate(Throwable throwable) {
+    if (throwable instanceof RuntimeException) return (RuntimeException) throwable;
+    if (throwable instanceof Error) throw (Error) throwable;
+    return new IllegalStateException(throwable);
+  }
+
+  private final class Chunk extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    Chunk(int from, int to, int chunkSize) {
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override protected void compute() {
+      if (from > firstFailure.get()) return;
+
+      if (to - from <= chunkSize) {
+        evaluate(from, to);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new Chunk(from, middle, chunkSize), new Chunk(middle, to, chunkSize));
+      }
+    }
+  }
+}
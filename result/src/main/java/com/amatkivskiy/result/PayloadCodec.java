@@ -0,0 +1,27 @@
+package com.amatkivskiy.result;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary codec of a single non-null value, used by {@link ResultCodec} for successful values and errors.
+ *
+ * @param <T> the value type
+ */
+public interface PayloadCodec<T> {
+  /**
+   * @return number of bytes {@link #encode(Object, ByteBuffer)} writes for the value.
+   */
+  int size(T value);
+
+  /**
+   * Write the value at the current position of the buffer and advance it.
+   */
+  void encode(T value, ByteBuffer buffer);
+
+  /**
+   * Read the value at the current position of the buffer and advance it.
+   *
+   * @return the decoded value
+   */
+  T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,225 @@
+package com.amatkivskiy.result;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * {@link PayloadCodec}s of common value types. Fixed-size numbers are written in the byte order of the buffer,
+ * lengths are written as unsigned variable-length integers.
+ */
+public final class PayloadCodecs {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /**
+   * 4 bytes.
+   */
+  public static final PayloadCodec<Integer> INTEGER = new PayloadCodec<Integer>() {
+    @Override public int size(Integer value) {
+      return 4;
+    }
+
+    @Override public void encode(Integer value, ByteBuffer buffer) {
+      buffer.putInt(value);
+    }
+
+    @Override public Integer decode(ByteBuffer buffer) {
+      return buffer.getInt();
+    }
+  };
+
+  /**
+   * 8 bytes.
+   */
+  public static final PayloadCodec<Long> LONG = new PayloadCodec<Long>() {
+    @Override public int size(Long value) {
+      return 8;
+    }
+
+    @Override public void encode(Long value, ByteBuffer buffer) {
+      buffer.putLong(value);
+    }
+
+    @Override public Long decode(ByteBuffer buffer) {
+      return buffer.getLong();
+    }
+  };
+
+  /**
+   * 8 bytes.
+   */
+  public static final PayloadCodec<Double> DOUBLE = new PayloadCodec<Double>() {
+    @Override public int size(Double value) {
+      return 8;
+    }
+
+    @Override public void encode(Double value, ByteBuffer buffer) {
+      buffer.putDouble(value);
+    }
+
+    @Override public Double decode(ByteBuffer buffer) {
+      return buffer.getDouble();
+    }
+  };
+
+  /**
+   * 1 byte.
+   */
+  public static final PayloadCodec<Boolean> BOOLEAN = new PayloadCodec<Boolean>() {
+    @Override public int size(Boolean value) {
+      return 1;
+    }
+
+    @Override public void encode(Boolean value, ByteBuffer buffer) {
+      buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    @Override public Boolean decode(ByteBuffer buffer) {
+      return buffer.get() != 0;
+    }
+  };
+
+  /**
+   * Length followed by UTF-8 bytes. Encoding writes characters straight into the buffer without intermediate
+   * arrays, unpaired surrogates are written as '?' the same way {@link String#getBytes(Charset)} does.
+   */
+  public static final PayloadCodec<String> STRING = new PayloadCodec<String>() {
+    @Override public int size(String value) {
+      int length = utf8Length(value);
+      return varIntSize(length) + length;
+    }
+
+    @Override public void encode(String value, ByteBuffer buffer) {
+      putVarInt(buffer, utf8Length(value));
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          buffer.put((byte) c);
+        } else if (c < 0x800) {
+          buffer.put((byte) (0xC0 | c >> 6));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        } else if (isSurrogatePair(value, i)) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buffer.put((byte) (0xF0 | codePoint >> 18));
+          buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+          buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+          buffer.put((byte) '?');
+        } else {
+          buffer.put((byte) (0xE0 | c >> 12));
+          buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        }
+      }
+    }
+
+    @Override public String decode(ByteBuffer buffer) {
+      int length = getVarInt(buffer);
+      if (length > buffer.remaining()) {
+        throw new BufferUnderflowException();
+      }
+
+      if (buffer.hasArray()) {
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+      }
+
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      return new String(bytes, UTF_8);
+    }
+  };
+
+  /**
+   * Length followed by the remaining bytes of the value. Decoding does not copy: the value is a read-only slice of
+   * the source buffer, so it is valid only as long as the source buffer content is.
+   * <p>
+   * Encoding does not change the position of the value, but it is not safe to encode the same value from several
+   * threads at once.
+   */
+  public static final PayloadCodec<ByteBuffer> BYTE_BUFFER = new PayloadCodec<ByteBuffer>() {
+    @Override public int size(ByteBuffer value) {
+      return varIntSize(value.remaining()) + value.remaining();
+    }
+
+    @Override public void encode(ByteBuffer value, ByteBuffer buffer) {
+      int position = value.position();
+      putVarInt(buffer, value.remaining());
+      buffer.put(value);
+      value.position(position);
+    }
+
+    @Override public ByteBuffer decode(ByteBuffer buffer) {
+      int length = getVarInt(buffer);
+      if (length > buffer.remaining()) {
+        throw new BufferUnderflowException();
+      }
+
+      ByteBuffer value = buffer.slice();
+      value.limit(length);
+      buffer.position(buffer.position() + length);
+      return value.asReadOnlyBuffer();
+    }
+  };
+
+  private PayloadCodecs() {
+  }
+
+  static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  static void putVarInt(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) (value & 0x7F | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  static int getVarInt(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        if (value < 0) break;
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed length.");
+  }
+
+  private static int utf8Length(String value) {
+    int length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (isSurrogatePair(value, i)) {
+        length += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        length++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static boolean isSurrogatePair(String value, int index) {
+    return Character.isHighSurrogate(value.charAt(index))
+        && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+}
@@ -0,0 +1,25 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failure of {@link RateLimiter#tryCall(Function)} while the rate limit is exhausted. One instance is shared by every
+ * rejected call of a limiter, so it carries a constant retry-after hint: the longest time it can take the limiter to
+ * free some capacity. That is one refill interval for a token bucket and the whole window for a sliding window.
+ * {@link RateLimiter#nanosUntilPermit()} gives the exact value.
+ */
+public class RateLimitExceededException extends ResultException {
+  private final long retryAfterNanos;
+
+  public RateLimitExceededException(String message, long retryAfterNanos) {
+    super(message);
+    this.retryAfterNanos = retryAfterNanos;
+  }
+
+  /**
+   * @return upper bound of the delay until the limiter frees some capacity.
+   */
+  public long retryAfter(TimeUnit unit) {
+    return unit.convert(retryAfterNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,169 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate of {@link Function} calls without blocking. Calls within the limit are evaluated the same way as
+ * with {@link Result#of(Function)}, calls above it return a preallocated {@link Failure} with
+ * {@link RateLimitExceededException} right away, the rejection path does not allocate.
+ * <ul>
+ * <li>{@link #tokenBucket(int, long, TimeUnit, int)} refills permits at a steady rate and allows bursts up to the
+ * bucket size. It is implemented as GCRA: a single compare-and-set of the theoretical arrival time per call.</li>
+ * <li>{@link #slidingWindow(int, long, TimeUnit)} allows a number of calls within the last window, counted in
+ * buckets of a tenth of the window. Calls are counted exactly, but the window slides by whole buckets: the limit holds
+ * for any nine tenths of the window, while a full window that starts in the middle of a bucket can see up to twice
+ * the permits.</li>
+ * </ul>
+ * Limiter is thread-safe and lock-free.
+ */
+public final class RateLimiter {
+  private static final int WINDOW_BUCKETS = 10;
+
+  private final Permits permits;
+  private final Failure<?, ?> exceeded;
+  private final AtomicLong rejected = new AtomicLong();
+
+  private RateLimiter(Permits permits, long retryAfterNanos) {
+    this.permits = permits;
+    this.exceeded = new Failure<>(new RateLimitExceededException("Rate limit exceeded.", retryAfterNanos));
+  }
+
+  /**
+   * Constructs token bucket limiter.
+   *
+   * @param permits number of permits refilled per period.
+   * @param period refill period.
+   * @param unit unit of period.
+   * @param burst maximum number of permits that can be used at once.
+   * @return new {@link RateLimiter}.
+   */
+  public static RateLimiter tokenBucket(int permits, long period, TimeUnit unit, int burst) {
+    if (permits < 1 || burst < 1) {
+      throw new IllegalArgumentException("Permits and burst must be positive, but were " + permits + " and " + burst
+                                             + ".");
+    }
+
+    long intervalNanos = Math.max(1, unit.toNanos(period) / permits);
+    return new RateLimiter(new TokenBucket(intervalNanos, burst), intervalNanos);
+  }
+
+  /**
+   * Constructs sliding window limiter.
+   *
+   * @param permits number of permits within the window.
+   * @param window length of the window.
+   * @param unit unit of window.
+   * @return new {@link RateLimiter}.
+   */
+  public static RateLimiter slidingWindow(int permits, long window, TimeUnit unit) {
+    if (permits < 1) {
+      throw new IllegalArgumentException("Permits must be positive, but was " + permits + ".");
+    }
+
+    SlidingWindow slidingWindow = new SlidingWindow(WINDOW_BUCKETS, unit.toNanos(window));
+    // Capacity frees once the oldest bucket that admitted calls leaves the window, which takes up to a whole window.
+    return new RateLimiter(new Window(slidingWindow, permits), WINDOW_BUCKETS * slidingWindow.bucketNanos());
+  }
+
+  /**
+   * Calls {@link Function} if a permit is available.
+   *
+   * @param suspect function to be called.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result} with {@link Function} return value, with {@link Exception} thrown during the call or
+   * with {@link RateLimitExceededException} if the call has been rejected.
+   */
+  public <V, E extends Exception> Result<V, E> tryCall(Function<V> suspect) {
+    if (!tryAcquire()) {
+      //noinspection unchecked
+      return (Result<V, E>) exceeded;
+    }
+    return Result.of(suspect);
+  }
+
+  /**
+   * Takes a permit if one is available.
+   *
+   * @return true if the permit has been taken.
+   */
+  public boolean tryAcquire() {
+    if (permits.tryAcquire(System.nanoTime())) {
+      return true;
+    }
+    rejected.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * @return time until a permit is expected to be available, 0 if one is available now.
+   */
+  public long nanosUntilPermit() {
+    return permits.nanosUntilPermit(System.nanoTime());
+  }
+
+  /**
+   * @return number of calls rejected since the limiter has been created.
+   */
+  public long rejectedCount() {
+    return rejected.get();
+  }
+
+  private abstract static class Permits {
+    abstract boolean tryAcquire(long now);
+
+    abstract long nanosUntilPermit(long now);
+  }
+
+  private static final class TokenBucket extends Permits {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long intervalNanos, int burst) {
+      this.intervalNanos = intervalNanos;
+      this.toleranceNanos = intervalNanos * (burst - 1);
+      this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    @Override boolean tryAcquire(long now) {
+      while (true) {
+        long arrival = theoreticalArrival.get();
+        long start = arrival - now > 0 ? arrival : now;
+        if (start - now > toleranceNanos) return false;
+        if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) return true;
+      }
+    }
+
+    @Override long nanosUntilPermit(long now) {
+      return Math.max(0, theoreticalArrival.get() - now - toleranceNanos);
+    }
+  }
+
+  private static final class Window extends Permits {
+    private final SlidingWindow window;
+    private final int permits;
+
+    Window(SlidingWindow window, int permits) {
+      this.window = window;
+      this.permits = permits;
+    }
+
+    @Override boolean tryAcquire(long now) {
+      if (window.successes(now) >= permits) return false;
+
+      // Concurrent callers may all pass the check above, so the permit is taken back if it went over the limit.
+      window.record(true, now);
+      if (window.successes(now) > permits) {
+        window.unrecord(true, now);
+        return false;
+      }
+      return true;
+    }
+
+    @Override long nanosUntilPermit(long now) {
+      return window.successes(now) < permits ? 0 : window.nanosUntilSuccessesExpire(now);
+    }
+  }
+}
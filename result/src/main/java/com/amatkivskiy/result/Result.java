@@ -1,5 +1,7 @@
 package com.amatkivskiy.result;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 public abstract class Result<V, E> {
   /**
    * @return value if {@link #isSuccess()} returns true, null otherwise.
@@ -63,9 +65,14 @@ public abstract class Result<V, E> {
    */
   public <P> Result<P, E> map(Transformer<V, P> transformer) {
     if (isSuccess()) {
+      if (ResultMetrics.ENABLED && ResultMetrics.INSTALLED.isEnabled(ResultMetrics.Operation.MAP)) {
+        return Instrumentation.map(ResultMetrics.INSTALLED, this, transformer);
+      }
       return Result.success(transformer.apply(value()));
     } else {
-      return Result.failure(error());
+      // Failure holds no value, so it is valid for any successful type.
+      //noinspection unchecked
+      return (Result<P, E>) this;
     }
   }
 
@@ -78,6 +85,9 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public <P, T> Result<P, T> flatMap(Transformer<Result<V, E>, Result<P, T>> transformer) {
+    if (ResultMetrics.ENABLED && ResultMetrics.INSTALLED.isEnabled(ResultMetrics.Operation.FLAT_MAP)) {
+      return Instrumentation.flatMap(ResultMetrics.INSTALLED, this, transformer);
+    }
     return transformer.apply(this);
   }
 
@@ -96,7 +106,7 @@ public abstract class Result<V, E> {
   }
 
   /**
-   * Constructs failure result.
+   * Constructs failure result. Empty failure is a shared immutable instance.
    *
    * @param error error value.
    * @param <V> type of successful value.
@@ -104,11 +114,12 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public static <V, E> Result<V, E> failure(E error) {
-    return new Failure<>(error);
+    return Failure.cached(error);
   }
 
   /**
-   * Constructs successful result.
+   * Constructs successful result. Empty success, {@link Boolean} and small {@link Integer} successes are shared
+   * immutable instances.
    *
    * @param value successful value.
    * @param <V> type of successful value.
@@ -116,7 +127,7 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public static <V, E> Result<V, E> success(V value) {
-    return new Success<>(value);
+    return Success.cached(value);
   }
 
   /**
@@ -129,10 +140,14 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public static <V, E> Result<V, E> orFailWith(Function<V> suspect, E error) {
+    if (ResultMetrics.ENABLED && ResultMetrics.INSTALLED.isEnabled(ResultMetrics.Operation.OR_FAIL_WITH)) {
+      return Instrumentation.orFailWith(ResultMetrics.INSTALLED, suspect, error);
+    }
+
     try {
       return success(suspect.call());
     } catch (Exception exception) {
-      return new Failure<>(error);
+      return failure(error);
     }
   }
 
@@ -146,6 +161,10 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public static <V, E> Result<V, E> orDefault(Function<V> suspect, V fallbackValue) {
+    if (ResultMetrics.ENABLED && ResultMetrics.INSTALLED.isEnabled(ResultMetrics.Operation.OR_DEFAULT)) {
+      return Instrumentation.orDefault(ResultMetrics.INSTALLED, suspect, fallbackValue);
+    }
+
     try {
       return success(suspect.call());
     } catch (Exception exception) {
@@ -175,6 +194,10 @@ public abstract class Result<V, E> {
    * @return new {@link Result}.
    */
   public static <V, E extends Exception> Result<V, E> of(Function<V> suspect) {
+    if (ResultMetrics.ENABLED && ResultMetrics.INSTALLED.isEnabled(ResultMetrics.Operation.OF)) {
+      return Instrumentation.of(ResultMetrics.INSTALLED, suspect);
+    }
+
     try {
       return success(suspect.call());
     } catch (Exception exception) {
@@ -182,4 +205,53 @@ public abstract class Result<V, E> {
       return new Failure<>((E) exception);
     }
   }
+
+  /**
+   * Creates {@link Result} with {@link Attempt} return value or with the failure reported by {@link Attempt}. Unlike
+   * {@link #of(Function)} no exception is thrown or caught, so the failure path costs the same as the success path.
+   * The sink passed to {@link Attempt} is reused by the calling thread, so it allocates nothing but the {@link Result}.
+   *
+   * @param suspect attempt to be called.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return new {@link Result}.
+   */
+  public static <V, E> Result<V, E> attempt(Attempt<V, E> suspect) {
+    FailureSink<E> sink = FailureSink.acquire();
+    try {
+      V value = suspect.call(sink);
+      return sink.failed ? Result.<V, E>failure(sink.error) : Result.<V, E>success(value);
+    } finally {
+      sink.release();
+    }
+  }
+
+  /**
+   * Calls {@link Function} until it succeeds or {@link RetryPolicy} gives up, sleeping between attempts on the
+   * calling thread.
+   *
+   * @param suspect function to be called.
+   * @param policy retry policy.
+   * @param <V> type of successful value.
+   * @return new {@link Result} with {@link Function} return value or with {@link RetryException} that holds
+   * exceptions of all attempts.
+   */
+  public static <V> Result<V, RetryException> retry(Function<V> suspect, RetryPolicy policy) {
+    return new Retrier<>(suspect, policy).runBlocking();
+  }
+
+  /**
+   * Same as {@link #retry(Function, RetryPolicy)}, but never blocks: attempts run on the scheduler, delays between
+   * them are scheduled instead of slept, and the final {@link Result} is passed to the callback.
+   *
+   * @param suspect function to be called.
+   * @param policy retry policy.
+   * @param scheduler scheduler to run attempts on.
+   * @param callback consumer of the final {@link Result}, called on the scheduler thread.
+   * @param <V> type of successful value.
+   */
+  public static <V> void retry(Function<V> suspect, RetryPolicy policy, ScheduledExecutorService scheduler,
+                               Consumer<Result<V, RetryException>> callback) {
+    new Retrier<>(suspect, policy).runScheduled(scheduler, callback);
+  }
 }
@@ -0,0 +1,198 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent single-key lookups into calls of a bulk loader.
+ * <p>
+ * The first {@link #get(Object)} of a batch waits for the window, concurrent calls add their keys to the same batch.
+ * The batch is loaded once the window is over or as soon as it reaches the maximum size, on the thread of the call
+ * that closed it, and every caller gets the {@link Result} of its own key. No threads are started.
+ * <ul>
+ * <li>Keys missing from the loaded map get empty {@link Success}.</li>
+ * <li>{@link Failure} returned by the loader fails every key of the batch.</li>
+ * <li>{@link RuntimeException} thrown by the loader is rethrown to every caller of the batch.</li>
+ * </ul>
+ * The same key requested several times within a batch is loaded once.
+ *
+ * @param <K> type of key.
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultBatcher<K, V, E> {
+  private final int maxBatchSize;
+  private final long windowNanos;
+  private final Transformer<List<K>, Result<Map<K, Result<V, E>>, E>> loader;
+  private final AtomicLong batches = new AtomicLong();
+  private Batch<K, V, E> current;
+
+  /**
+   * @param maxBatchSize maximum number of distinct keys in a batch.
+   * @param window time the first lookup of a batch waits for others.
+   * @param unit unit of window.
+   * @param loader function that loads results of all keys of a batch.
+   */
+  public ResultBatcher(int maxBatchSize, long window, TimeUnit unit,
+                       Transformer<List<K>, Result<Map<K, Result<V, E>>, E>> loader) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Maximum batch size must be positive, but was " + maxBatchSize + ".");
+    }
+
+    this.maxBatchSize = maxBatchSize;
+    this.windowNanos = unit.toNanos(window);
+    this.loader = loader;
+  }
+
+  /**
+   * Returns {@link Result} of the key loaded together with keys of concurrent calls. Blocks for up to the window
+   * plus the time of the bulk load.
+   *
+   * @param key key.
+   * @return loaded {@link Result}.
+   */
+  public Result<V, E> get(K key) {
+    Batch<K, V, E> batch;
+    Pending<V, E> pending;
+    boolean leader = false;
+    boolean full;
+    synchronized (this) {
+      if (current == null) {
+        current = new Batch<>();
+        leader = true;
+      }
+      batch = current;
+      pending = batch.add(key);
+      full = batch.size() >= maxBatchSize;
+      if (full) {
+        current = null;
+      }
+    }
+
+    if (full) {
+      batch.sealed.countDown();
+      load(batch);
+    } else if (leader) {
+      batch.awaitSealed(windowNanos);
+      if (seal(batch)) {
+        load(batch);
+      }
+    }
+    return pending.await();
+  }
+
+  /**
+   * @return number of loader calls since the batcher has been created.
+   */
+  public long batchCount() {
+    return batches.get();
+  }
+
+  private synchronized boolean seal(Batch<K, V, E> batch) {
+    if (current != batch) return false;
+
+    current = null;
+    return true;
+  }
+
+  private void load(Batch<K, V, E> batch) {
+    batches.incrementAndGet();
+    List<K> keys = new ArrayList<>(batch.pendings.keySet());
+    try {
+      Result<Map<K, Result<V, E>>, E> loaded = loader.apply(keys);
+      if (!loaded.isSuccess()) {
+        Result<V, E> failure = Result.failure(loaded.error());
+        for (Pending<V, E> pending : batch.pendings.values()) {
+          pending.complete(failure, null);
+        }
+        return;
+      }
+
+      Map<K, Result<V, E>> results = loaded.value();
+      for (Map.Entry<K, Pending<V, E>> entry : batch.pendings.entrySet()) {
+        Result<V, E> result = results.get(entry.getKey());
+        entry.getValue()
+            .complete(result == null ? Result.<V, E>success(null) : result, null);
+      }
+    } catch (RuntimeException | Error throwable) {
+      for (Pending<V, E> pending : batch.pendings.values()) {
+        pending.complete(null, throwable);
+      }
+    }
+  }
+
+  /**
+   * Keys of a batch, guarded by the batcher until the batch is sealed and read-only after that.
+   */
+  private static final class Batch<K, V, E> {
+    final Map<K, Pending<V, E>> pendings = new LinkedHashMap<>();
+    final CountDownLatch sealed = new CountDownLatch(1);
+
+    Pending<V, E> add(K key) {
+      Pending<V, E> pending = pendings.get(key);
+      if (pending == null) {
+        pending = new Pending<>();
+        pendings.put(key, pending);
+      }
+      return pending;
+    }
+
+    int size() {
+      return pendings.size();
+    }
+
+    void awaitSealed(long timeoutNanos) {
+      long deadline = System.nanoTime() + timeoutNanos;
+      boolean interrupted = false;
+      while (true) {
+        try {
+          sealed.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread()
+            .interrupt();
+      }
+    }
+  }
+
+  private static final class Pending<V, E> {
+    private final CountDownLatch done = new CountDownLatch(1);
+    private Result<V, E> result;
+    private Throwable thrown;
+
+    void complete(Result<V, E> result, Throwable thrown) {
+      this.result = result;
+      this.thrown = thrown;
+      done.countDown();
+    }
+
+    Result<V, E> await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread()
+            .interrupt();
+      }
+
+      if (thrown instanceof RuntimeException) throw (RuntimeException) thrown;
+      if (thrown instanceof Error) throw (Error) thrown;
+      return result;
+    }
+  }
+}
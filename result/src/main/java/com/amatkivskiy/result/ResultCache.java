@@ -0,0 +1,282 @@
+package com.amatkivskiy.result;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe memoizing cache of {@link Result}s.
+ * <ul>
+ * <li>Size is bounded: entries are split between lock-striped segments, each of them evicts its least recently used
+ * entry once full.</li>
+ * <li>{@link Success} and {@link Failure} entries have separate time-to-live, zero failure TTL disables negative
+ * caching.</li>
+ * <li>Loading is single-flight: concurrent misses for the same key wait for one loader call and share its
+ * result. A loader that asks for the key it is loading gets {@link IllegalStateException} instead of waiting for
+ * itself.</li>
+ * <li>Invalidation wins over loads in flight: a load that started before {@link #invalidate(Object)} still returns
+ * its result to the callers waiting for it, but does not cache it, and later lookups start a new load. Loads of other
+ * keys are not affected.</li>
+ * </ul>
+ *
+ * @param <K> type of key.
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultCache<K, V, E> {
+  private static final int MAX_SEGMENTS = 16;
+
+  private final Segment<K, V, E>[] segments;
+  private final long successTtlNanos;
+  private final long failureTtlNanos;
+  private final ConcurrentMap<K, Loading<V, E>> loading = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * @param maximumSize maximum number of cached entries.
+   * @param successTtl time-to-live of {@link Success} entries.
+   * @param failureTtl time-to-live of {@link Failure} entries, 0 disables caching of failures.
+   * @param unit unit of TTLs.
+   */
+  public ResultCache(int maximumSize, long successTtl, long failureTtl, TimeUnit unit) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize + ".");
+    }
+
+    int count = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+    //noinspection unchecked
+    this.segments = (Segment<K, V, E>[]) new Segment<?, ?, ?>[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0), evictions);
+    }
+    this.successTtlNanos = unit.toNanos(successTtl);
+    this.failureTtlNanos = unit.toNanos(failureTtl);
+  }
+
+  /**
+   * Returns cached {@link Result} for the key or loads it with the loader.
+   *
+   * @param key key.
+   * @param loader function that loads {@link Result} for the key.
+   * @return cached or loaded {@link Result}.
+   */
+  public Result<V, E> get(K key, Transformer<K, Result<V, E>> loader) {
+    Segment<K, V, E> segment = segmentFor(key);
+    Result<V, E> cached = segment.get(key, System.nanoTime());
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+    misses.incrementAndGet();
+
+    Loading<V, E> mine = new Loading<>();
+    Loading<V, E> existing = loading.putIfAbsent(key, mine);
+    if (existing != null) {
+      if (existing.owner == Thread.currentThread()) {
+        throw new IllegalStateException("Recursive load of key " + key + ".");
+      }
+      return existing.await();
+    }
+
+    try {
+      // Another loader call could have finished between the lookup above and registering this one.
+      Result<V, E> result = segment.get(key, System.nanoTime());
+      if (result != null) {
+        mine.complete(result, null);
+        return result;
+      }
+
+      result = loader.apply(key);
+      long ttl = result.isSuccess() ? successTtlNanos : failureTtlNanos;
+      if (ttl > 0) {
+        segment.putUnlessInvalidated(key, result, System.nanoTime() + ttl, mine);
+      }
+      mine.complete(result, null);
+      return result;
+    } catch (RuntimeException | Error throwable) {
+      mine.complete(null, throwable);
+      throw throwable;
+    } finally {
+      loading.remove(key, mine);
+    }
+  }
+
+  /**
+   * Returns cached {@link Result} for the key or calls {@link Function} the same way {@link Result#of(Function)}
+   * does. {@link Exception} thrown by the function is cached as failure.
+   *
+   * @param key key.
+   * @param suspect function to be called.
+   * @return cached or loaded {@link Result}.
+   */
+  public Result<V, E> get(K key, final Function<V> suspect) {
+    return get(key, new Transformer<K, Result<V, E>>() {
+      @Override public Result<V, E> apply(K value) {
+        try {
+          return Result.success(suspect.call());
+        } catch (Exception exception) {
+          //noinspection unchecked
+          return new Failure<>((E) exception);
+        }
+      }
+    });
+  }
+
+  /**
+   * Removes cached entry for the key and keeps the load in flight for it from being cached.
+   */
+  public void invalidate(K key) {
+    // Marked before the entry is removed, so the load either caches before the removal or sees the mark.
+    Loading<V, E> inFlight = loading.remove(key);
+    if (inFlight != null) {
+      inFlight.invalidated = true;
+    }
+    segmentFor(key).remove(key);
+  }
+
+  /**
+   * Removes all cached entries and keeps the loads in flight from being cached.
+   */
+  public void invalidateAll() {
+    for (Loading<V, E> inFlight : loading.values()) {
+      inFlight.invalidated = true;
+    }
+    loading.clear();
+    for (Segment<K, V, E> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * @return number of cached entries, including the expired ones that have not been removed yet.
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V, E> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * @return number of lookups served from the cache.
+   */
+  public long hitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of lookups that were not in the cache, including the ones that waited for another loader call.
+   */
+  public long missCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return number of entries evicted because of the size bound.
+   */
+  public long evictionCount() {
+    return evictions.get();
+  }
+
+  private Segment<K, V, E> segmentFor(K key) {
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return segments[hash & (segments.length - 1)];
+  }
+
+  private static final class CachedResult<V, E> {
+    final Result<V, E> result;
+    final long expiresAt;
+
+    CachedResult(Result<V, E> result, long expiresAt) {
+      this.result = result;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static final class Segment<K, V, E> {
+    private final LinkedHashMap<K, CachedResult<V, E>> entries;
+
+    Segment(final int capacity, final AtomicLong evictions) {
+      this.entries = new LinkedHashMap<K, CachedResult<V, E>>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V, E>> eldest) {
+          if (size() > capacity) {
+            evictions.incrementAndGet();
+            return true;
+          }
+          return false;
+        }
+      };
+    }
+
+    synchronized Result<V, E> get(K key, long now) {
+      CachedResult<V, E> entry = entries.get(key);
+      if (entry == null) return null;
+
+      if (now - entry.expiresAt >= 0) {
+        entries.remove(key);
+        return null;
+      }
+      return entry.result;
+    }
+
+    synchronized void putUnlessInvalidated(K key, Result<V, E> result, long expiresAt, Loading<V, E> load) {
+      if (!load.invalidated) {
+        entries.put(key, new CachedResult<>(result, expiresAt));
+      }
+    }
+
+    synchronized void remove(K key) {
+      entries.remove(key);
+    }
+
+    synchronized void clear() {
+      entries.clear();
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+  }
+
+  private static final class Loading<V, E> {
+    final Thread owner = Thread.currentThread();
+    volatile boolean invalidated;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private Result<V, E> result;
+    private Throwable thrown;
+
+    void complete(Result<V, E> result, Throwable thrown) {
+      this.result = result;
+      this.thrown = thrown;
+      done.countDown();
+    }
+
+    Result<V, E> await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread()
+            .interrupt();
+      }
+
+      if (thrown instanceof RuntimeException) throw (RuntimeException) thrown;
+      if (thrown instanceof Error) throw (Error) thrown;
+      return result;
+    }
+  }
+}
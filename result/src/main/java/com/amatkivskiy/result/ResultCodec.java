@@ -0,0 +1,180 @@
+package com.amatkivskiy.result;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec of {@link Result}s that writes to and reads from {@link ByteBuffer}s directly.
+ * <p>
+ * Every {@link Result} is written as a tag byte followed by the value or the error encoded with its
+ * {@link PayloadCodec}, null payloads take no space. Batches start with the number of results.
+ * <p>
+ * Encoding and decoding are atomic: if the buffer does not have enough space or bytes, its position stays where it
+ * was and {@link BufferOverflowException} or {@link BufferUnderflowException} is thrown, so the call can be repeated
+ * once the buffer is flushed or more bytes arrive.
+ *
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultCodec<V, E> {
+  private static final int FAILURE = 1;
+  private static final int NULL_PAYLOAD = 2;
+
+  private final PayloadCodec<V> values;
+  private final PayloadCodec<E> errors;
+
+  /**
+   * @param values codec of successful values.
+   * @param errors codec of failure values.
+   */
+  public ResultCodec(PayloadCodec<V> values, PayloadCodec<E> errors) {
+    this.values = values;
+    this.errors = errors;
+  }
+
+  /**
+   * @return number of bytes {@link #encode(Result, ByteBuffer)} writes for the result.
+   */
+  public int size(Result<V, E> result) {
+    if (result.isSuccess()) {
+      V value = result.value();
+      return value == null ? 1 : 1 + values.size(value);
+    }
+
+    E error = result.error();
+    return error == null ? 1 : 1 + errors.size(error);
+  }
+
+  /**
+   * @return number of bytes {@link #encodeAll(List, ByteBuffer)} writes for the results.
+   */
+  public int size(List<? extends Result<V, E>> results) {
+    int size = PayloadCodecs.varIntSize(results.size());
+    for (int i = 0; i < results.size(); i++) {
+      size += size(results.get(i));
+    }
+    return size;
+  }
+
+  /**
+   * Write the result at the current position of the buffer and advance it.
+   */
+  public void encode(Result<V, E> result, ByteBuffer buffer) {
+    int position = buffer.position();
+    try {
+      write(result, buffer);
+    } catch (BufferOverflowException exception) {
+      buffer.position(position);
+      throw exception;
+    }
+  }
+
+  /**
+   * Write the results at the current position of the buffer and advance it. Results are read by index, so the list
+   * should support fast random access.
+   */
+  public void encodeAll(List<? extends Result<V, E>> results, ByteBuffer buffer) {
+    int position = buffer.position();
+    try {
+      PayloadCodecs.putVarInt(buffer, results.size());
+      for (int i = 0; i < results.size(); i++) {
+        write(results.get(i), buffer);
+      }
+    } catch (BufferOverflowException exception) {
+      buffer.position(position);
+      throw exception;
+    }
+  }
+
+  /**
+   * Read the result at the current position of the buffer and advance it.
+   *
+   * @return decoded {@link Result}.
+   */
+  public Result<V, E> decode(ByteBuffer buffer) {
+    int position = buffer.position();
+    try {
+      return read(buffer);
+    } catch (BufferUnderflowException exception) {
+      buffer.position(position);
+      throw exception;
+    }
+  }
+
+  /**
+   * Read the batch at the current position of the buffer and advance it.
+   *
+   * @return decoded {@link Result}s in the order they were written.
+   */
+  public List<Result<V, E>> decodeAll(ByteBuffer buffer) {
+    int position = buffer.position();
+    try {
+      int count = PayloadCodecs.getVarInt(buffer);
+      List<Result<V, E>> results = new ArrayList<>(Math.min(count, buffer.remaining()));
+      for (int i = 0; i < count; i++) {
+        results.add(read(buffer));
+      }
+      return results;
+    } catch (BufferUnderflowException exception) {
+      buffer.position(position);
+      throw exception;
+    }
+  }
+
+  /**
+   * Read the batch at the current position of the buffer, advance it and pass every result to the consumer as soon
+   * as it is decoded, without collecting them.
+   * <p>
+   * Unlike other methods it is not atomic: results of a truncated batch that were decoded before the end of the
+   * buffer have already been consumed.
+   *
+   * @return number of decoded results.
+   */
+  public int decodeAll(ByteBuffer buffer, Consumer<? super Result<V, E>> consumer) {
+    int count = PayloadCodecs.getVarInt(buffer);
+    for (int i = 0; i < count; i++) {
+      consumer.accept(read(buffer));
+    }
+    return count;
+  }
+
+  private void write(Result<V, E> result, ByteBuffer buffer) {
+    if (result.isSuccess()) {
+      V value = result.value();
+      if (value == null) {
+        buffer.put((byte) NULL_PAYLOAD);
+      } else {
+        buffer.put((byte) 0);
+        values.encode(value, buffer);
+      }
+      return;
+    }
+
+    E error = result.error();
+    if (error == null) {
+      buffer.put((byte) (FAILURE | NULL_PAYLOAD));
+    } else {
+      buffer.put((byte) FAILURE);
+      errors.encode(error, buffer);
+    }
+  }
+
+  private Result<V, E> read(ByteBuffer buffer) {
+    int tag = buffer.get();
+    switch (tag) {
+      case 0:
+        return Result.success(values.decode(buffer));
+      case NULL_PAYLOAD:
+        return Result.success(null);
+      case FAILURE:
+        return Result.failure(errors.decode(buffer));
+      case FAILURE | NULL_PAYLOAD:
+        return Result.failure(null);
+      default:
+        throw new IllegalArgumentException("Unknown tag " + tag + " at position " + (buffer.position() - 1) + ".");
+    }
+  }
+}
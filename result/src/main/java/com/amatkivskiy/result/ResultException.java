@@ -0,0 +1,19 @@
+package com.amatkivskiy.result;
+
+/**
+ * Lightweight {@link Exception} for expected failures that does not capture stack trace and does not record
+ * suppressed exceptions. It is immutable, so a single preallocated instance can be shared for every failure of the
+ * same kind:
+ * <pre>
+ * static final ResultException INVALID_NUMBER = new ResultException("Invalid number.");
+ * </pre>
+ */
+public class ResultException extends Exception {
+  public ResultException(String message) {
+    super(message, null, false, false);
+  }
+
+  public ResultException(String message, Throwable cause) {
+    super(message, cause, false, false);
+  }
+}
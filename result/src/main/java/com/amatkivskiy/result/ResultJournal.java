@@ -0,0 +1,279 @@
+package com.amatkivskiy.result;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of {@link Result}s keyed by record id, used to checkpoint batch jobs: after a restart the job
+ * replays the journal, skips records that already succeeded and retries the failed ones.
+ * <p>
+ * Records are written to memory-mapped segment files of fixed size in the directory, a new segment is started when
+ * the current one is full. Every record is {@code [length][crc32][record id][result encoded by ResultCodec]}, the
+ * length is written last, so a record torn by a crash is either invisible or fails the checksum. Replay stops at the
+ * first such record of a segment and new appends overwrite it.
+ * <p>
+ * Appended records survive a crash of the process as soon as {@link #append(long, Result)} returns, {@link #sync()}
+ * makes them survive a crash of the operating system too. Methods are thread-safe.
+ *
+ * @param <V> type of successful value.
+ * @param <E> type of failure value.
+ */
+public final class ResultJournal<V, E> implements Closeable {
+  private static final String SUFFIX = ".journal";
+  private static final int HEADER_SIZE = 8;
+  private static final int ID_SIZE = 8;
+  private static final int INITIAL_SCRATCH_SIZE = 256;
+
+  private final File directory;
+  private final int segmentSize;
+  private final ResultCodec<V, E> codec;
+  private final CRC32 crc = new CRC32();
+  private ByteBuffer scratch = ByteBuffer.allocate(INITIAL_SCRATCH_SIZE);
+  private long segmentIndex;
+  private MappedByteBuffer segment;
+
+  /**
+   * Opens journal in the directory, creates the directory if it does not exist. Appends continue after the last
+   * valid record of the existing journal.
+   *
+   * @param directory directory of segment files.
+   * @param segmentSize size of a segment file in bytes, limits the size of a single record.
+   * @param codec codec of results.
+   */
+  public ResultJournal(File directory, int segmentSize, ResultCodec<V, E> codec) throws IOException {
+    if (segmentSize <= HEADER_SIZE + ID_SIZE) {
+      throw new IllegalArgumentException("Segment size must be greater than " + (HEADER_SIZE + ID_SIZE)
+                                             + ", but was " + segmentSize + ".");
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create directory " + directory + ".");
+    }
+
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.codec = codec;
+
+    File[] segments = segments();
+    if (segments.length == 0) {
+      this.segment = map(segmentFile(0), FileChannel.MapMode.READ_WRITE, segmentSize);
+    } else {
+      File last = segments[segments.length - 1];
+      this.segmentIndex = indexOf(last);
+      this.segment = map(last, FileChannel.MapMode.READ_WRITE, last.length() > 0 ? last.length() : segmentSize);
+      this.segment.position(scan(segment, segment.limit(), null));
+    }
+  }
+
+  /**
+   * Appends the result of the record. Records can be appended more than once, the last entry wins.
+   *
+   * @param recordId id of the record.
+   * @param result outcome of the record.
+   * @throws IllegalArgumentException if the encoded record does not fit into a segment.
+   */
+  public synchronized void append(long recordId, Result<V, E> result) throws IOException {
+    ensureOpen();
+
+    ByteBuffer body = encode(recordId, result);
+    int length = body.remaining();
+    if (HEADER_SIZE + length > segmentSize) {
+      throw tooLarge(recordId);
+    }
+    if (segment.remaining() < HEADER_SIZE + length) {
+      roll();
+    }
+
+    crc.reset();
+    crc.update(body.array(), 0, length);
+    int position = segment.position();
+    segment.position(position + HEADER_SIZE);
+    segment.put(body);
+    segment.putInt(position + 4, (int) crc.getValue());
+    segment.putInt(position, length);
+  }
+
+  /**
+   * Passes every valid record to the visitor in the order they were appended.
+   * <p>
+   * Payloads decoded as buffer slices (e.g. by {@link PayloadCodecs#BYTE_BUFFER}) are backed by the segment files.
+   */
+  public synchronized void replay(Visitor<V, E> visitor) throws IOException {
+    ensureOpen();
+
+    for (File file : segments()) {
+      long index = indexOf(file);
+      if (index == segmentIndex) {
+        scan(segment, segment.position(), visitor);
+      } else {
+        MappedByteBuffer sealed = map(file, FileChannel.MapMode.READ_ONLY, file.length());
+        scan(sealed, sealed.limit(), visitor);
+      }
+    }
+  }
+
+  /**
+   * Replays the journal and collects records whose last entry is a failure.
+   *
+   * @return errors of failed records keyed by record id, in the order they failed first.
+   */
+  public Map<Long, E> failures() throws IOException {
+    final Map<Long, E> failures = new LinkedHashMap<>();
+    replay(new Visitor<V, E>() {
+      @Override public void visit(long recordId, Result<V, E> result) {
+        if (result.isSuccess()) {
+          failures.remove(recordId);
+        } else {
+          failures.put(recordId, result.error());
+        }
+      }
+    });
+    return failures;
+  }
+
+  /**
+   * Flushes appended records of the current segment to the storage device.
+   */
+  public synchronized void sync() {
+    ensureOpen();
+    segment.force();
+  }
+
+  /**
+   * Flushes appended records and closes the journal. Segment files are unmapped once the buffers are garbage
+   * collected.
+   */
+  @Override
+  public synchronized void close() {
+    if (segment == null) return;
+
+    segment.force();
+    segment = null;
+  }
+
+  private ByteBuffer encode(long recordId, Result<V, E> result) {
+    while (true) {
+      scratch.clear();
+      try {
+        scratch.putLong(recordId);
+        codec.encode(result, scratch);
+        scratch.flip();
+        return scratch;
+      } catch (BufferOverflowException exception) {
+        if (HEADER_SIZE + scratch.capacity() >= segmentSize) {
+          throw tooLarge(recordId);
+        }
+        scratch = ByteBuffer.allocate(Math.min(scratch.capacity() * 2, segmentSize - HEADER_SIZE));
+      }
+    }
+  }
+
+  private IllegalArgumentException tooLarge(long recordId) {
+    return new IllegalArgumentException("Record " + recordId + " does not fit into segment of " + segmentSize
+                                            + " bytes.");
+  }
+
+  private void roll() throws IOException {
+    segment.force();
+    segment = map(segmentFile(segmentIndex + 1), FileChannel.MapMode.READ_WRITE, segmentSize);
+    segmentIndex++;
+  }
+
+  /**
+   * @return position after the last valid record.
+   */
+  private int scan(ByteBuffer buffer, int limit, Visitor<V, E> visitor) {
+    ByteBuffer view = buffer.duplicate();
+    int position = 0;
+    while (limit - position >= HEADER_SIZE) {
+      int length = view.getInt(position);
+      if (length < ID_SIZE || length > limit - position - HEADER_SIZE) break;
+
+      int checksum = view.getInt(position + 4);
+      int start = position + HEADER_SIZE;
+      view.limit(start + length);
+      view.position(start);
+      if (checksum(view, length) != checksum) break;
+
+      if (visitor != null) {
+        view.position(start);
+        long recordId = view.getLong();
+        visitor.visit(recordId, codec.decode(view));
+      }
+      view.limit(buffer.capacity());
+      position = start + length;
+    }
+    return position;
+  }
+
+  private int checksum(ByteBuffer buffer, int length) {
+    if (scratch.capacity() < length) {
+      scratch = ByteBuffer.allocate(length);
+    }
+    buffer.get(scratch.array(), 0, length);
+    crc.reset();
+    crc.update(scratch.array(), 0, length);
+    return (int) crc.getValue();
+  }
+
+  private void ensureOpen() {
+    if (segment == null) {
+      throw new IllegalStateException("Journal is closed.");
+    }
+  }
+
+  private File[] segments() {
+    File[] segments = directory.listFiles(new FileFilter() {
+      @Override public boolean accept(File file) {
+        return file.isFile() && file.getName()
+            .endsWith(SUFFIX);
+      }
+    });
+    if (segments == null) {
+      segments = new File[0];
+    }
+    // Names are zero-padded, so lexicographic order is the order of segments.
+    Arrays.sort(segments);
+    return segments;
+  }
+
+  private File segmentFile(long index) {
+    return new File(directory, String.format(Locale.ROOT, "%020d%s", index, SUFFIX));
+  }
+
+  private static long indexOf(File segment) {
+    String name = segment.getName();
+    return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+  }
+
+  private static MappedByteBuffer map(File file, FileChannel.MapMode mode, long size) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, mode == FileChannel.MapMode.READ_ONLY ? "r" : "rw")) {
+      if (mode == FileChannel.MapMode.READ_WRITE && raf.length() < size) {
+        raf.setLength(size);
+      }
+      return raf.getChannel()
+          .map(mode, 0, size);
+    }
+  }
+
+  /**
+   * Callback of {@link #replay(Visitor)}.
+   *
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   */
+  public interface Visitor<V, E> {
+    void visit(long recordId, Result<V, E> result);
+  }
+}
@@ -0,0 +1,124 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface of {@link Result} instrumentation.
+ * <p>
+ * Implementations are looked up once with {@link ServiceLoader}: register them in
+ * {@code META-INF/services/com.amatkivskiy.result.ResultMetrics}, e.g. {@link HistogramResultMetrics}. Every
+ * registered implementation records every call it is enabled for. Without a registered implementation the
+ * instrumented methods take exactly the same path as uninstrumented ones, the only extra cost is a check of a static
+ * final flag that the JIT folds away. With one, calls of operations that no implementation is
+ * {@link #isEnabled(Operation) enabled} for take the uninstrumented path as well.
+ * <p>
+ * Instrumented calls are {@link Result#of(Function)}, {@link Result#orFailWith(Function, Object)},
+ * {@link Result#orDefault(Function, Object)}, {@link Result#map(Transformer)} (only when the transformer is called)
+ * and {@link Result#flatMap(Transformer)}.
+ */
+public abstract class ResultMetrics {
+  private static final ResultMetrics NOOP = new ResultMetrics() {
+    @Override public boolean isEnabled(Operation operation) {
+      return false;
+    }
+
+    @Override public void record(Operation operation, Class<?> callSite, boolean success, Object error,
+                                 long durationNanos, Object context) {
+    }
+  };
+
+  private static final List<ResultMetrics> PROVIDERS = load();
+  static final ResultMetrics INSTALLED = compose(PROVIDERS);
+  static final boolean ENABLED = INSTALLED != NOOP;
+
+  /**
+   * Instrumented operations.
+   */
+  public enum Operation {
+    OF, OR_FAIL_WITH, OR_DEFAULT, MAP, FLAT_MAP
+  }
+
+  /**
+   * Checked before every instrumented call, the call is neither timed nor recorded when it returns false. Called on
+   * the hot path, so it should be as cheap as a field read.
+   *
+   * @param operation instrumented operation.
+   * @return true if calls of the operation are recorded right now, true by default.
+   */
+  public boolean isEnabled(Operation operation) {
+    return true;
+  }
+
+  /**
+   * Called right before the function of an enabled call, e.g. to begin a timed event.
+   *
+   * @param operation instrumented operation.
+   * @return context of the call passed back to {@link #record(Operation, Class, boolean, Object, long, Object)},
+   * null by default.
+   */
+  public Object begin(Operation operation) {
+    return null;
+  }
+
+  /**
+   * Records a single instrumented call. Called on the hot path, so it should neither block nor allocate.
+   *
+   * @param operation instrumented operation.
+   * @param callSite class of the {@link Function} or {@link Transformer} passed to the operation, it is unique for
+   * every lambda or anonymous class, so it identifies the call site without a stack walk.
+   * @param success whether the function succeeded. {@link Result#orDefault(Function, Object)} that falls back to the
+   * default value is a failure.
+   * @param error error of the failed call: the {@link Exception} thrown by the function or the failure value.
+   * @param durationNanos duration of the function call.
+   * @param context value returned by {@link #begin(Operation)} for this call.
+   */
+  public abstract void record(Operation operation, Class<?> callSite, boolean success, Object error,
+                              long durationNanos, Object context);
+
+  /**
+   * @return all registered implementations combined or no-op one if none is registered.
+   */
+  public static ResultMetrics installed() {
+    return INSTALLED;
+  }
+
+  /**
+   * Looks up a registered implementation, e.g. to export metrics it collects.
+   *
+   * @param type class of the implementation.
+   * @param <T> type of the implementation.
+   * @return registered implementation of the type, null if none is registered.
+   */
+  public static <T extends ResultMetrics> T installed(Class<T> type) {
+    for (ResultMetrics provider : PROVIDERS) {
+      if (type.isInstance(provider)) {
+        return type.cast(provider);
+      }
+    }
+    return null;
+  }
+
+  private static List<ResultMetrics> load() {
+    List<ResultMetrics> providers = new ArrayList<>();
+    try {
+      Iterator<ResultMetrics> iterator = ServiceLoader.load(ResultMetrics.class)
+          .iterator();
+      while (iterator.hasNext()) {
+        providers.add(iterator.next());
+      }
+    } catch (ServiceConfigurationError ignored) {
+      // Broken provider must not break Result, run with the providers loaded so far.
+    }
+    return providers;
+  }
+
+  private static ResultMetrics compose(List<ResultMetrics> providers) {
+    if (providers.isEmpty()) return NOOP;
+    if (providers.size() == 1) return providers.get(0);
+    return new CompositeResultMetrics(providers.toArray(new ResultMetrics[providers.size()]));
+  }
+}
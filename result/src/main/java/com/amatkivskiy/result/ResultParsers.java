@@ -0,0 +1,375 @@
+package com.amatkivskiy.result;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses text into results without exceptions: bad input returns one of the preallocated failures with
+ * {@link #EMPTY}, {@link #MALFORMED} or {@link #OVERFLOW}, which costs as much as a successful parse.
+ * <p>
+ * Every parser accepts a range of a {@link CharSequence}, so fields of a larger buffer can be parsed in place without
+ * substrings. Parsers are stricter than their {@code java.lang} counterparts: surrounding whitespace, Java literal
+ * suffixes and hexadecimal floating point are rejected.
+ */
+public final class ResultParsers {
+  public static final ErrorCode EMPTY = new ErrorCode(1, "Input is empty.");
+  public static final ErrorCode MALFORMED = new ErrorCode(2, "Input is malformed.");
+  public static final ErrorCode OVERFLOW = new ErrorCode(3, "Value is out of range.");
+
+  private static final FailureTable<ErrorCode> FAILURES = FailureTable.of(EMPTY, MALFORMED, OVERFLOW);
+
+  private static final IntResult<ErrorCode> INT_EMPTY = IntResult.failure(EMPTY);
+  private static final IntResult<ErrorCode> INT_MALFORMED = IntResult.failure(MALFORMED);
+  private static final IntResult<ErrorCode> INT_OVERFLOW = IntResult.failure(OVERFLOW);
+  private static final LongResult<ErrorCode> LONG_EMPTY = LongResult.failure(EMPTY);
+  private static final LongResult<ErrorCode> LONG_MALFORMED = LongResult.failure(MALFORMED);
+  private static final LongResult<ErrorCode> LONG_OVERFLOW = LongResult.failure(OVERFLOW);
+  private static final DoubleResult<ErrorCode> DOUBLE_EMPTY = DoubleResult.failure(EMPTY);
+  private static final DoubleResult<ErrorCode> DOUBLE_MALFORMED = DoubleResult.failure(MALFORMED);
+
+  private static final Result<Boolean, ErrorCode> TRUE = Result.success(Boolean.TRUE);
+  private static final Result<Boolean, ErrorCode> FALSE = Result.success(Boolean.FALSE);
+
+  /**
+   * Powers of ten that are exact doubles.
+   */
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final int MAX_MANTISSA_DIGITS = 18;
+  private static final int MAX_EXPONENT = 100000;
+  private static final int UUID_LENGTH = 36;
+
+  private static final ConcurrentMap<Class<?>, Result<?, ErrorCode>[]> ENUM_SUCCESSES = new ConcurrentHashMap<>();
+
+  private ResultParsers() {
+  }
+
+  public static IntResult<ErrorCode> parseInt(CharSequence input) {
+    return parseInt(input, 0, input.length());
+  }
+
+  /**
+   * Parses decimal {@code int} with optional sign, same as {@link Integer#parseInt(String)}.
+   *
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @return successful {@link IntResult} or failure with {@link #EMPTY}, {@link #MALFORMED} or {@link #OVERFLOW}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static IntResult<ErrorCode> parseInt(CharSequence input, int start, int end) {
+    checkRange(input, start, end);
+    if (start == end) return INT_EMPTY;
+
+    int i = start;
+    boolean negative = false;
+    char first = input.charAt(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      if (++i == end) return INT_MALFORMED;
+    }
+
+    // Accumulated negatively, as the magnitude of Integer.MIN_VALUE does not fit an int.
+    int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+    int multiplicationLimit = limit / 10;
+    int value = 0;
+    boolean overflow = false;
+    for (; i < end; i++) {
+      int digit = input.charAt(i) - '0';
+      if (digit < 0 || digit > 9) return INT_MALFORMED;
+      if (overflow || value < multiplicationLimit || value * 10 < limit + digit) {
+        overflow = true;
+      } else {
+        value = value * 10 - digit;
+      }
+    }
+
+    if (overflow) return INT_OVERFLOW;
+    return IntResult.success(negative ? value : -value);
+  }
+
+  public static LongResult<ErrorCode> parseLong(CharSequence input) {
+    return parseLong(input, 0, input.length());
+  }
+
+  /**
+   * Parses decimal {@code long} with optional sign, same as {@link Long#parseLong(String)}.
+   *
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @return successful {@link LongResult} or failure with {@link #EMPTY}, {@link #MALFORMED} or {@link #OVERFLOW}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static LongResult<ErrorCode> parseLong(CharSequence input, int start, int end) {
+    checkRange(input, start, end);
+    if (start == end) return LONG_EMPTY;
+
+    int i = start;
+    boolean negative = false;
+    char first = input.charAt(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      if (++i == end) return LONG_MALFORMED;
+    }
+
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplicationLimit = limit / 10;
+    long value = 0;
+    boolean overflow = false;
+    for (; i < end; i++) {
+      int digit = input.charAt(i) - '0';
+      if (digit < 0 || digit > 9) return LONG_MALFORMED;
+      if (overflow || value < multiplicationLimit || value * 10 < limit + digit) {
+        overflow = true;
+      } else {
+        value = value * 10 - digit;
+      }
+    }
+
+    if (overflow) return LONG_OVERFLOW;
+    return LongResult.success(negative ? value : -value);
+  }
+
+  public static DoubleResult<ErrorCode> parseDouble(CharSequence input) {
+    return parseDouble(input, 0, input.length());
+  }
+
+  /**
+   * Parses decimal {@code double} with optional sign, fraction and exponent, {@code NaN} or {@code Infinity}. The
+   * value is the same as of {@link Double#parseDouble(String)}: out of range values become infinity or zero.
+   * <p>
+   * Values with up to 18 significant digits and a decimal exponent within 22 are computed exactly without
+   * allocation. Others are validated first and then handed to {@link Double#parseDouble(String)}, which copies the
+   * range.
+   *
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @return successful {@link DoubleResult} or failure with {@link #EMPTY} or {@link #MALFORMED}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static DoubleResult<ErrorCode> parseDouble(CharSequence input, int start, int end) {
+    checkRange(input, start, end);
+    if (start == end) return DOUBLE_EMPTY;
+
+    int i = start;
+    boolean negative = false;
+    char first = input.charAt(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      if (++i == end) return DOUBLE_MALFORMED;
+    }
+
+    if (regionEquals(input, i, end, "NaN")) return DoubleResult.success(Double.NaN);
+    if (regionEquals(input, i, end, "Infinity")) {
+      return DoubleResult.success(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+    }
+
+    long mantissa = 0;
+    int mantissaDigits = 0;
+    int exponent = 0;
+    boolean exact = true;
+    boolean digits = false;
+    for (; i < end && isDigit(input.charAt(i)); i++) {
+      digits = true;
+      int digit = input.charAt(i) - '0';
+      if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+        mantissa = mantissa * 10 + digit;
+        if (mantissa != 0) mantissaDigits++;
+      } else {
+        exact &= digit == 0;
+        exponent++;
+      }
+    }
+    if (i < end && input.charAt(i) == '.') {
+      for (i++; i < end && isDigit(input.charAt(i)); i++) {
+        digits = true;
+        int digit = input.charAt(i) - '0';
+        if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+          mantissa = mantissa * 10 + digit;
+          if (mantissa != 0) mantissaDigits++;
+          exponent--;
+        } else {
+          exact &= digit == 0;
+        }
+      }
+    }
+    if (!digits) return DOUBLE_MALFORMED;
+
+    if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+      if (++i == end) return DOUBLE_MALFORMED;
+      boolean negativeExponent = false;
+      if (input.charAt(i) == '-' || input.charAt(i) == '+') {
+        negativeExponent = input.charAt(i) == '-';
+        if (++i == end) return DOUBLE_MALFORMED;
+      }
+      int explicitExponent = 0;
+      for (; i < end && isDigit(input.charAt(i)); i++) {
+        // Saturated, anything beyond is infinity or zero anyway.
+        if (explicitExponent < MAX_EXPONENT) explicitExponent = explicitExponent * 10 + input.charAt(i) - '0';
+      }
+      if (!isDigit(input.charAt(i - 1))) return DOUBLE_MALFORMED;
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+    if (i != end) return DOUBLE_MALFORMED;
+
+    double value;
+    if (mantissa == 0) {
+      value = 0;
+    } else if (exact && mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) < POWERS_OF_TEN.length) {
+      // Both operands are exact doubles, so a single correctly rounded operation gives the correctly rounded value.
+      value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+    } else {
+      return DoubleResult.success(Double.parseDouble(input.subSequence(start, end)
+                                                         .toString()));
+    }
+    return DoubleResult.success(negative ? -value : value);
+  }
+
+  public static Result<Boolean, ErrorCode> parseBoolean(CharSequence input) {
+    return parseBoolean(input, 0, input.length());
+  }
+
+  /**
+   * Parses {@code true} or {@code false} ignoring case. Unlike {@link Boolean#parseBoolean(String)} any other input
+   * is a failure rather than {@code false}.
+   *
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @return shared successful {@link Result} or failure with {@link #EMPTY} or {@link #MALFORMED}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static Result<Boolean, ErrorCode> parseBoolean(CharSequence input, int start, int end) {
+    checkRange(input, start, end);
+    if (start == end) return FAILURES.failure(EMPTY);
+
+    if (regionEqualsIgnoreCase(input, start, end, "true")) return TRUE;
+    if (regionEqualsIgnoreCase(input, start, end, "false")) return FALSE;
+    return FAILURES.failure(MALFORMED);
+  }
+
+  public static Result<UUID, ErrorCode> parseUuid(CharSequence input) {
+    return parseUuid(input, 0, input.length());
+  }
+
+  /**
+   * Parses {@link UUID} in its canonical {@code 8-4-4-4-12} hexadecimal form, either case. Unlike
+   * {@link UUID#fromString(String)} shorter groups are rejected.
+   *
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @return successful {@link Result} or failure with {@link #EMPTY} or {@link #MALFORMED}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static Result<UUID, ErrorCode> parseUuid(CharSequence input, int start, int end) {
+    checkRange(input, start, end);
+    if (start == end) return FAILURES.failure(EMPTY);
+    if (end - start != UUID_LENGTH) return FAILURES.failure(MALFORMED);
+
+    long mostSignificant = 0;
+    long leastSignificant = 0;
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char c = input.charAt(start + i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') return FAILURES.failure(MALFORMED);
+        continue;
+      }
+
+      int digit = hexDigit(c);
+      if (digit < 0) return FAILURES.failure(MALFORMED);
+      if (i < 18) {
+        mostSignificant = mostSignificant << 4 | digit;
+      } else {
+        leastSignificant = leastSignificant << 4 | digit;
+      }
+    }
+    return Result.success(new UUID(mostSignificant, leastSignificant));
+  }
+
+  public static <T extends Enum<T>> Result<T, ErrorCode> parseEnum(Class<T> type, CharSequence input) {
+    return parseEnum(type, input, 0, input.length());
+  }
+
+  /**
+   * Parses enum constant by its exact name, same as {@link Enum#valueOf(Class, String)}. Successful results are
+   * shared per constant.
+   *
+   * @param type enum class.
+   * @param input text.
+   * @param start index of the first character, inclusive.
+   * @param end index of the last character, exclusive.
+   * @param <T> type of enum.
+   * @return successful {@link Result} or failure with {@link #EMPTY} or {@link #MALFORMED}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of input.
+   */
+  public static <T extends Enum<T>> Result<T, ErrorCode> parseEnum(Class<T> type, CharSequence input, int start,
+                                                                    int end) {
+    checkRange(input, start, end);
+    if (start == end) return FAILURES.failure(EMPTY);
+
+    for (Result<?, ErrorCode> success : successesOf(type)) {
+      if (regionEquals(input, start, end, ((Enum<?>) success.value()).name())) {
+        //noinspection unchecked
+        return (Result<T, ErrorCode>) success;
+      }
+    }
+    return FAILURES.failure(MALFORMED);
+  }
+
+  private static Result<?, ErrorCode>[] successesOf(Class<?> type) {
+    Result<?, ErrorCode>[] successes = ENUM_SUCCESSES.get(type);
+    if (successes == null) {
+      Object[] constants = type.getEnumConstants();
+      //noinspection unchecked
+      successes = (Result<?, ErrorCode>[]) new Result<?, ?>[constants.length];
+      for (int i = 0; i < constants.length; i++) {
+        successes[i] = Result.success(constants[i]);
+      }
+      ENUM_SUCCESSES.putIfAbsent(type, successes);
+    }
+    return successes;
+  }
+
+  private static void checkRange(CharSequence input, int start, int end) {
+    if (start < 0 || start > end || end > input.length()) {
+      throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds of input of length "
+                                              + input.length() + ".");
+    }
+  }
+
+  private static boolean regionEquals(CharSequence input, int start, int end, String expected) {
+    if (end - start != expected.length()) return false;
+
+    for (int i = 0; i < expected.length(); i++) {
+      if (input.charAt(start + i) != expected.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean regionEqualsIgnoreCase(CharSequence input, int start, int end, String lowerCase) {
+    if (end - start != lowerCase.length()) return false;
+
+    for (int i = 0; i < lowerCase.length(); i++) {
+      if (Character.toLowerCase(input.charAt(start + i)) != lowerCase.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') return c - '0';
+    if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+    if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+    return -1;
+  }
+}
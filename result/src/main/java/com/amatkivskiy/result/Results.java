@@ -0,0 +1,256 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk operations over collections of {@link Result}.
+ */
+public final class Results {
+  private static final int DEFAULT_CAPACITY = 10;
+
+  private Results() {
+  }
+
+  /**
+   * Turns results into a single {@link Result} with all successful values, stops at the first failure.
+   *
+   * @param results results to be combined.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in iteration order or the first failure.
+   */
+  public static <V, E> Result<List<V>, E> sequence(Iterable<Result<V, E>> results) {
+    List<V> values = new ArrayList<>(sizeOf(results));
+    for (Result<V, E> result : results) {
+      if (!result.isSuccess()) {
+        // Failure holds no value, so it is valid for any successful type.
+        //noinspection unchecked
+        return (Result<List<V>, E>) (Result<?, E>) result;
+      }
+      values.add(result.value());
+    }
+
+    return Result.success(values);
+  }
+
+  /**
+   * Turns results into a single {@link Result} with all successful values or with all errors if any of them fails.
+   *
+   * @param results results to be combined.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in iteration order or failure with errors in iteration order.
+   */
+  public static <V, E> Result<List<V>, List<E>> sequenceAll(Iterable<Result<V, E>> results) {
+    List<V> values = new ArrayList<>(sizeOf(results));
+    List<E> errors = null;
+    for (Result<V, E> result : results) {
+      errors = collect(result, values, errors);
+    }
+
+    return errors == null ? Result.<List<V>, List<E>>success(values) : Result.<List<V>, List<E>>failure(errors);
+  }
+
+  /**
+   * Transforms every input into {@link Result} and combines them, stops at the first failure.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer function that transforms single input.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in iteration order or the first failure.
+   */
+  public static <T, V, E> Result<List<V>, E> traverse(Iterable<T> inputs, Transformer<T, Result<V, E>> transformer) {
+    List<V> values = new ArrayList<>(sizeOf(inputs));
+    for (T input : inputs) {
+      Result<V, E> result = transformer.apply(input);
+      if (!result.isSuccess()) {
+        // Failure holds no value, so it is valid for any successful type.
+        //noinspection unchecked
+        return (Result<List<V>, E>) (Result<?, E>) result;
+      }
+      values.add(result.value());
+    }
+
+    return Result.success(values);
+  }
+
+  /**
+   * Transforms every input into {@link Result} and combines them with all errors if any of them fails.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer function that transforms single input.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in iteration order or failure with errors in iteration order.
+   */
+  public static <T, V, E> Result<List<V>, List<E>> traverseAll(Iterable<T> inputs,
+                                                               Transformer<T, Result<V, E>> transformer) {
+    List<V> values = new ArrayList<>(sizeOf(inputs));
+    List<E> errors = null;
+    for (T input : inputs) {
+      errors = collect(transformer.apply(input), values, errors);
+    }
+
+    return errors == null ? Result.<List<V>, List<E>>success(values) : Result.<List<V>, List<E>>failure(errors);
+  }
+
+  /**
+   * Same as {@link #traverse(Iterable, Transformer)}, but splits inputs across {@link ForkJoinPool}. Results keep
+   * input order, and once a failure is found inputs behind it are no longer evaluated.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer thread-safe function that transforms single input.
+   * @param pool pool to run transformations on.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in input order or the first failure in input order.
+   */
+  public static <T, V, E> Result<List<V>, E> traverseParallel(List<T> inputs,
+                                                              Transformer<T, Result<V, E>> transformer,
+                                                              ForkJoinPool pool) {
+    return sequence(new ParallelTraversal<>(inputs, transformer, true).runOn(pool));
+  }
+
+  /**
+   * Same as {@link #traverseParallel(List, Transformer, ForkJoinPool)}, but splits inputs into chunks submitted to
+   * {@link Executor}. Calling thread waits for all chunks to finish.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer thread-safe function that transforms single input.
+   * @param executor executor to run transformations on.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in input order or the first failure in input order.
+   * @throws java.util.concurrent.CancellationException if calling thread is interrupted while waiting.
+   */
+  public static <T, V, E> Result<List<V>, E> traverseParallel(List<T> inputs,
+                                                              Transformer<T, Result<V, E>> transformer,
+                                                              Executor executor) {
+    return sequence(new ParallelTraversal<>(inputs, transformer, true).runOn(executor));
+  }
+
+  /**
+   * Same as {@link #traverseAll(Iterable, Transformer)}, but splits inputs across {@link ForkJoinPool}.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer thread-safe function that transforms single input.
+   * @param pool pool to run transformations on.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in input order or failure with errors in input order.
+   */
+  public static <T, V, E> Result<List<V>, List<E>> traverseAllParallel(List<T> inputs,
+                                                                       Transformer<T, Result<V, E>> transformer,
+                                                                       ForkJoinPool pool) {
+    return sequenceAll(new ParallelTraversal<>(inputs, transformer, false).runOn(pool));
+  }
+
+  /**
+   * Same as {@link #traverseAll(Iterable, Transformer)}, but splits inputs into chunks submitted to
+   * {@link Executor}. Calling thread waits for all chunks to finish.
+   *
+   * @param inputs values to be transformed.
+   * @param transformer thread-safe function that transforms single input.
+   * @param executor executor to run transformations on.
+   * @param <T> type of input value.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in input order or failure with errors in input order.
+   * @throws java.util.concurrent.CancellationException if calling thread is interrupted while waiting.
+   */
+  public static <T, V, E> Result<List<V>, List<E>> traverseAllParallel(List<T> inputs,
+                                                                       Transformer<T, Result<V, E>> transformer,
+                                                                       Executor executor) {
+    return sequenceAll(new ParallelTraversal<>(inputs, transformer, false).runOn(executor));
+  }
+
+  /**
+   * Calls all functions concurrently, one virtual thread each where the runtime supports it, and succeeds only if
+   * all of them succeed. The first failure or the deadline cancels the functions that are still running.
+   *
+   * @param suspects functions to be called.
+   * @param timeout maximum time to wait for all functions.
+   * @param unit unit of timeout.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with values in the order of suspects, the first {@link Exception} thrown,
+   * {@link java.util.concurrent.TimeoutException} if the deadline has passed or {@link InterruptedException} if
+   * calling thread has been interrupted.
+   */
+  public static <V, E extends Exception> Result<List<V>, E> all(List<? extends Function<V>> suspects, long timeout,
+                                                                TimeUnit unit) {
+    return FanOut.all(suspects, timeout, unit);
+  }
+
+  /**
+   * Same as {@link #all(List, long, TimeUnit)}, but calls functions on the given {@link ExecutorService}.
+   */
+  public static <V, E extends Exception> Result<List<V>, E> all(List<? extends Function<V>> suspects, long timeout,
+                                                                TimeUnit unit, ExecutorService executor) {
+    return FanOut.all(suspects, timeout, unit, executor);
+  }
+
+  /**
+   * Calls all functions concurrently, one virtual thread each where the runtime supports it, and succeeds with the
+   * first successful value. The first success or the deadline cancels the functions that are still running.
+   *
+   * @param suspects functions to be called, must not be empty.
+   * @param timeout maximum time to wait for successful function.
+   * @param unit unit of timeout.
+   * @param <V> type of successful value.
+   * @param <E> type of failure value.
+   * @return successful {@link Result} with the first value, the {@link Exception} of the last function to fail if
+   * all of them fail, {@link java.util.concurrent.TimeoutException} if the deadline has passed or
+   * {@link InterruptedException} if calling thread has been interrupted.
+   */
+  public static <V, E extends Exception> Result<V, E> any(List<? extends Function<V>> suspects, long timeout,
+                                                          TimeUnit unit) {
+    return FanOut.any(suspects, timeout, unit);
+  }
+
+  /**
+   * Same as {@link #any(List, long, TimeUnit)}, but calls functions on the given {@link ExecutorService}.
+   */
+  public static <V, E extends Exception> Result<V, E> any(List<? extends Function<V>> suspects, long timeout,
+                                                          TimeUnit unit, ExecutorService executor) {
+    return FanOut.any(suspects, timeout, unit, executor);
+  }
+
+  /**
+   * Adds successful value to values while there are no errors, otherwise adds error and drops collected values.
+   *
+   * @return errors collected so far, null if there are none.
+   */
+  private static <V, E> List<E> collect(Result<V, E> result, List<V> values, List<E> errors) {
+    if (result.isSuccess()) {
+      if (errors == null) {
+        values.add(result.value());
+      }
+      return errors;
+    }
+
+    if (errors == null) {
+      errors = new ArrayList<>();
+      // Values are never returned once something failed.
+      values.clear();
+    }
+    errors.add(result.error());
+    return errors;
+  }
+
+  private static int sizeOf(Iterable<?> iterable) {
+    return iterable instanceof Collection ? ((Collection<?>) iterable).size() : DEFAULT_CAPACITY;
+  }
+}
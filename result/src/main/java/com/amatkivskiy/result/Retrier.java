@@ -0,0 +1,95 @@
+package com.amatkivskiy.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single retry loop of {@link Result#retry(Function, RetryPolicy)}. Failures list is only allocated once the first
+ * attempt fails.
+ */
+final class Retrier<V> implements Runnable {
+  private final Function<V> suspect;
+  private final RetryPolicy policy;
+  private final long start = System.nanoTime();
+  private ScheduledExecutorService scheduler;
+  private Consumer<Result<V, RetryException>> callback;
+  private List<Exception> failures;
+
+  Retrier(Function<V> suspect, RetryPolicy policy) {
+    this.suspect = suspect;
+    this.policy = policy;
+  }
+
+  Result<V, RetryException> runBlocking() {
+    while (true) {
+      try {
+        return Result.success(suspect.call());
+      } catch (Exception exception) {
+        long delay = onFailure(exception);
+        if (delay < 0) {
+          return failure();
+        }
+
+        try {
+          TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread()
+              .interrupt();
+          failures.add(interrupted);
+          return failure();
+        }
+      }
+    }
+  }
+
+  void runScheduled(ScheduledExecutorService scheduler, Consumer<Result<V, RetryException>> callback) {
+    this.scheduler = scheduler;
+    this.callback = callback;
+    scheduler.execute(this);
+  }
+
+  @Override public void run() {
+    V value;
+    try {
+      value = suspect.call();
+    } catch (Exception exception) {
+      long delay = onFailure(exception);
+      if (delay < 0) {
+        callback.accept(failure());
+      } else {
+        scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+      }
+      return;
+    }
+    callback.accept(Result.<V, RetryException>success(value));
+  }
+
+  /**
+   * Records failed attempt.
+   *
+   * @return delay before next attempt in nanoseconds, negative if there should be none.
+   */
+  private long onFailure(Exception exception) {
+    if (failures == null) {
+      failures = new ArrayList<>(policy.maxAttempts());
+    }
+    failures.add(exception);
+
+    int attempts = failures.size();
+    if (attempts >= policy.maxAttempts() || !policy.shouldRetry(exception)) {
+      return -1;
+    }
+
+    long delay = policy.delayNanos(attempts);
+    if (System.nanoTime() - start + delay > policy.deadlineNanos()) {
+      return -1;
+    }
+    return delay;
+  }
+
+  private Result<V, RetryException> failure() {
+    return Result.failure(new RetryException(failures));
+  }
+}
@@ -0,0 +1,24 @@
+package com.amatkivskiy.result;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Failure of {@link Result#retry(Function, RetryPolicy)} that keeps {@link Exception} of every attempt. The last one
+ * is also the cause.
+ */
+public class RetryException extends Exception {
+  private final List<Exception> failures;
+
+  public RetryException(List<Exception> failures) {
+    super("Failed after " + failures.size() + " attempt(s).", failures.get(failures.size() - 1));
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * @return exceptions of all attempts in the order they were thrown.
+   */
+  public List<Exception> failures() {
+    return failures;
+  }
+}
@@ -0,0 +1,132 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable description of how {@link Result#retry(Function, RetryPolicy)} retries failed {@link Function} calls:
+ * backoff between attempts, maximum number of attempts, total deadline and which exceptions are worth retrying.
+ * Every {@code with*} method returns new policy.
+ */
+public final class RetryPolicy {
+  private static final int DEFAULT_MAX_ATTEMPTS = 3;
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+  private static final Transformer<Exception, Boolean> RETRY_ALL = new Transformer<Exception, Boolean>() {
+    @Override public Boolean apply(Exception value) {
+      return true;
+    }
+  };
+
+  private final long initialDelayNanos;
+  private final long maxDelayNanos;
+  private final double multiplier;
+  private final double jitter;
+  private final int maxAttempts;
+  private final long deadlineNanos;
+  private final Transformer<Exception, Boolean> retryIf;
+
+  private RetryPolicy(long initialDelayNanos, long maxDelayNanos, double multiplier, double jitter, int maxAttempts,
+                      long deadlineNanos, Transformer<Exception, Boolean> retryIf) {
+    this.initialDelayNanos = initialDelayNanos;
+    this.maxDelayNanos = maxDelayNanos;
+    this.multiplier = multiplier;
+    this.jitter = jitter;
+    this.maxAttempts = maxAttempts;
+    this.deadlineNanos = deadlineNanos;
+    this.retryIf = retryIf;
+  }
+
+  /**
+   * Constructs policy with the same delay before every retry and 3 attempts in total.
+   *
+   * @param delay delay between attempts.
+   * @param unit unit of delay.
+   * @return new {@link RetryPolicy}.
+   */
+  public static RetryPolicy fixed(long delay, TimeUnit unit) {
+    long delayNanos = unit.toNanos(delay);
+    return new RetryPolicy(delayNanos, delayNanos, 1, 0, DEFAULT_MAX_ATTEMPTS, NO_DEADLINE, RETRY_ALL);
+  }
+
+  /**
+   * Constructs policy that doubles delay after every retry up to maxDelay, with 3 attempts in total.
+   *
+   * @param initialDelay delay before the first retry.
+   * @param maxDelay upper bound of delay.
+   * @param unit unit of delays.
+   * @return new {@link RetryPolicy}.
+   */
+  public static RetryPolicy exponential(long initialDelay, long maxDelay, TimeUnit unit) {
+    return new RetryPolicy(unit.toNanos(initialDelay), unit.toNanos(maxDelay), 2, 0, DEFAULT_MAX_ATTEMPTS,
+                           NO_DEADLINE, RETRY_ALL);
+  }
+
+  /**
+   * @param jitter fraction of every delay in [0, 1] that is randomized, so that concurrent callers do not retry in
+   * lockstep. 1 means delay is uniformly distributed between 0 and the computed backoff.
+   * @return new {@link RetryPolicy}.
+   */
+  public RetryPolicy withJitter(double jitter) {
+    if (jitter < 0 || jitter > 1) {
+      throw new IllegalArgumentException("Jitter must be in [0, 1], but was " + jitter + ".");
+    }
+    return new RetryPolicy(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, deadlineNanos, retryIf);
+  }
+
+  /**
+   * @param maxAttempts maximum number of calls, including the first one.
+   * @return new {@link RetryPolicy}.
+   */
+  public RetryPolicy withMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("At least one attempt is required, but was " + maxAttempts + ".");
+    }
+    return new RetryPolicy(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, deadlineNanos, retryIf);
+  }
+
+  /**
+   * @param deadline total time budget measured from the first call. Retry that can not start before it is skipped.
+   * @param unit unit of deadline.
+   * @return new {@link RetryPolicy}.
+   */
+  public RetryPolicy withDeadline(long deadline, TimeUnit unit) {
+    return new RetryPolicy(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, unit.toNanos(deadline),
+                           retryIf);
+  }
+
+  /**
+   * @param retryIf predicate that decides whether the caught exception is worth retrying.
+   * @return new {@link RetryPolicy}.
+   */
+  public RetryPolicy retryIf(Transformer<Exception, Boolean> retryIf) {
+    return new RetryPolicy(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, deadlineNanos, retryIf);
+  }
+
+  int maxAttempts() {
+    return maxAttempts;
+  }
+
+  long deadlineNanos() {
+    return deadlineNanos;
+  }
+
+  boolean shouldRetry(Exception exception) {
+    return retryIf.apply(exception);
+  }
+
+  /**
+   * @param retry 1 for the delay before the second attempt, 2 before the third one and so on.
+   * @return delay in nanoseconds.
+   */
+  long delayNanos(int retry) {
+    double delay = initialDelayNanos * Math.pow(multiplier, retry - 1);
+    long backoff = delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+    if (jitter == 0 || backoff == 0) {
+      return backoff;
+    }
+
+    long randomized = (long) (backoff * jitter);
+    return backoff - randomized + ThreadLocalRandom.current()
+        .nextLong(randomized + 1);
+  }
+}
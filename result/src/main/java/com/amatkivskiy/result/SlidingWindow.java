@@ -0,0 +1,121 @@
+package com.amatkivskiy.result;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free success/failure counters over a sliding time window split into buckets. Bucket that belongs to an
+ * expired epoch is replaced by the first thread that records into it with a single compare-and-set, so no count
+ * recorded in the current epoch is lost. A call recorded with a time that is already behind the bucket is counted in
+ * the newer bucket, which only ever overestimates. The window slides by whole buckets: a call is counted until its
+ * bucket leaves the window, at least one bucket shorter than the window after it has been made.
+ */
+final class SlidingWindow {
+  private static final Bucket EMPTY = new Bucket(Long.MIN_VALUE);
+
+  private final int buckets;
+  private final long bucketNanos;
+  private final AtomicReferenceArray<Bucket> window;
+
+  SlidingWindow(int buckets, long windowNanos) {
+    this.buckets = buckets;
+    this.bucketNanos = Math.max(1, windowNanos / buckets);
+    this.window = new AtomicReferenceArray<>(buckets);
+    reset();
+  }
+
+  void record(boolean success, long now) {
+    long epoch = now / bucketNanos;
+    int index = indexOf(epoch);
+    Bucket bucket = window.get(index);
+    while (bucket.epoch < epoch) {
+      Bucket fresh = new Bucket(epoch);
+      if (window.compareAndSet(index, bucket, fresh)) {
+        bucket = fresh;
+      } else {
+        bucket = window.get(index);
+      }
+    }
+
+    if (success) {
+      bucket.successes.incrementAndGet();
+    } else {
+      bucket.failures.incrementAndGet();
+    }
+  }
+
+  /**
+   * Takes back a call recorded at the same time, skipped if its bucket has been replaced since then.
+   */
+  void unrecord(boolean success, long now) {
+    long epoch = now / bucketNanos;
+    Bucket bucket = window.get(indexOf(epoch));
+    if (bucket.epoch != epoch) return;
+
+    if (success) {
+      bucket.successes.decrementAndGet();
+    } else {
+      bucket.failures.decrementAndGet();
+    }
+  }
+
+  long bucketNanos() {
+    return bucketNanos;
+  }
+
+  /**
+   * @return time until the oldest bucket with successes leaves the window, 0 if there are none.
+   */
+  long nanosUntilSuccessesExpire(long now) {
+    long oldest = now / bucketNanos - buckets + 1;
+    long first = Long.MAX_VALUE;
+    for (int i = 0; i < buckets; i++) {
+      Bucket bucket = window.get(i);
+      if (bucket.epoch >= oldest && bucket.epoch < first && bucket.successes.get() > 0) {
+        first = bucket.epoch;
+      }
+    }
+    return first == Long.MAX_VALUE ? 0 : Math.max(0, (first + buckets) * bucketNanos - now);
+  }
+
+  long successes(long now) {
+    return sum(true, now);
+  }
+
+  long failures(long now) {
+    return sum(false, now);
+  }
+
+  void reset() {
+    for (int i = 0; i < buckets; i++) {
+      window.set(i, EMPTY);
+    }
+  }
+
+  private int indexOf(long epoch) {
+    // System.nanoTime() can be negative.
+    return (int) (((epoch % buckets) + buckets) % buckets);
+  }
+
+  private long sum(boolean success, long now) {
+    long oldest = now / bucketNanos - buckets + 1;
+    long sum = 0;
+    for (int i = 0; i < buckets; i++) {
+      Bucket bucket = window.get(i);
+      if (bucket.epoch >= oldest) {
+        sum += success ? bucket.successes.get() : bucket.failures.get();
+      }
+    }
+    return sum;
+  }
+
+  private static final class Bucket {
+    final long epoch;
+    final AtomicLong successes = new AtomicLong();
+    final AtomicLong failures = new AtomicLong();
+
+    Bucket(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+}
@@ -1,12 +1,50 @@
 package com.amatkivskiy.result;
 
 public class Success<V, E> extends Result<V, E> {
-  private V value;
+  private static final Success<?, ?> EMPTY = new Success<>(null);
+  private static final Success<?, ?> TRUE = new Success<>(Boolean.TRUE);
+  private static final Success<?, ?> FALSE = new Success<>(Boolean.FALSE);
+
+  private static final int INTEGER_CACHE_LOW = -128;
+  private static final int INTEGER_CACHE_HIGH = 127;
+  private static final Success<?, ?>[] INTEGERS = new Success<?, ?>[INTEGER_CACHE_HIGH - INTEGER_CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < INTEGERS.length; i++) {
+      INTEGERS[i] = new Success<>(Integer.valueOf(i + INTEGER_CACHE_LOW));
+    }
+  }
+
+  private final V value;
 
   public Success(V value) {
     this.value = value;
   }
 
+  /**
+   * Returns shared immutable instance for null, {@link Boolean} and small {@link Integer} values (the same range as
+   * {@link Integer#valueOf(int)} caches), new {@link Success} otherwise.
+   */
+  static <V, E> Success<V, E> cached(V value) {
+    Success<?, ?> cached;
+    if (value == null) {
+      cached = EMPTY;
+    } else if (value instanceof Boolean) {
+      cached = (Boolean) value ? TRUE : FALSE;
+    } else if (value instanceof Integer) {
+      int intValue = (Integer) value;
+      if (intValue < INTEGER_CACHE_LOW || intValue > INTEGER_CACHE_HIGH) {
+        return new Success<>(value);
+      }
+      cached = INTEGERS[intValue - INTEGER_CACHE_LOW];
+    } else {
+      return new Success<>(value);
+    }
+
+    //noinspection unchecked
+    return (Success<V, E>) cached;
+  }
+
   @Override
   public V value() {
     return value;
@@ -0,0 +1,464 @@
+package com.amatkivskiy.result;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Result of validation that, unlike {@link Result}, keeps every error instead of the first one. Validations are
+ * combined with {@link #combine(Validation, Validation, Combiner2)} (2 to 8 inputs), {@link #and(Validation)} or
+ * {@link #combineAll(Iterable)}.
+ * <p>
+ * Errors are kept in a compact append-only buffer: a single error is stored in a field, an array is only allocated
+ * once there is a second one. Validations share the array: appending to the latest validation of a buffer writes to
+ * its free capacity in place, the array grows by doubling. Combining valid inputs allocates nothing but the
+ * resulting {@link Validation}.
+ *
+ * @param <V> type of valid value.
+ * @param <E> type of error.
+ */
+public final class Validation<V, E> {
+  private static final int INITIAL_CAPACITY = 4;
+  private static final ErrorBuffer NO_MORE_ERRORS = new ErrorBuffer(new Object[0], 0);
+
+  private final boolean valid;
+  private final V value;
+  private final E firstError;
+  private final ErrorBuffer moreErrors;
+  private final int moreCount;
+
+  private Validation(boolean valid, V value, E firstError, ErrorBuffer moreErrors, int moreCount) {
+    this.valid = valid;
+    this.value = value;
+    this.firstError = firstError;
+    this.moreErrors = moreErrors;
+    this.moreCount = moreCount;
+  }
+
+  /**
+   * Constructs valid validation.
+   *
+   * @param value valid value.
+   * @return new {@link Validation}.
+   */
+  public static <V, E> Validation<V, E> valid(V value) {
+    return new Validation<>(true, value, null, NO_MORE_ERRORS, 0);
+  }
+
+  /**
+   * Constructs invalid validation with single error.
+   *
+   * @param error error.
+   * @return new {@link Validation}.
+   */
+  public static <V, E> Validation<V, E> invalid(E error) {
+    return new Validation<>(false, null, error, NO_MORE_ERRORS, 0);
+  }
+
+  /**
+   * Constructs validation from {@link Result}: success is valid, failure is invalid with its error.
+   *
+   * @param result result to be converted.
+   * @return new {@link Validation}.
+   */
+  public static <V, E> Validation<V, E> from(Result<V, E> result) {
+    return result.isSuccess() ? Validation.<V, E>valid(result.value()) : Validation.<V, E>invalid(result.error());
+  }
+
+  /**
+   * @return true if there are no errors.
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * @return value if {@link #isValid()} returns true, null otherwise.
+   */
+  public V value() {
+    return value;
+  }
+
+  /**
+   * @return number of errors.
+   */
+  public int errorCount() {
+    return valid ? 0 : 1 + moreCount;
+  }
+
+  /**
+   * @return read-only view of errors in the order they were collected, empty if valid.
+   */
+  public List<E> errors() {
+    return new AbstractList<E>() {
+      @Override public E get(int index) {
+        if (index < 0 || index >= size()) {
+          throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        //noinspection unchecked
+        return index == 0 ? firstError : (E) moreErrors.errors[index - 1];
+      }
+
+      @Override public int size() {
+        return errorCount();
+      }
+    };
+  }
+
+  /**
+   * Transforms valid value, skips call otherwise.
+   *
+   * @param transformer function that transforms {@link #value()}.
+   * @param <P> new valid type.
+   * @return new {@link Validation} with P value.
+   */
+  public <P> Validation<P, E> map(Transformer<V, P> transformer) {
+    if (valid) {
+      return valid(transformer.apply(value));
+    }
+    // Invalid validation holds no value, so it is valid for any value type.
+    //noinspection unchecked
+    return (Validation<P, E>) this;
+  }
+
+  /**
+   * Keeps value of this validation and errors of both validations.
+   *
+   * @param other validation whose errors are appended.
+   * @return new {@link Validation}, this one if the other is valid or the other one if this is valid.
+   */
+  public Validation<V, E> and(Validation<?, E> other) {
+    if (other.valid) {
+      return this;
+    }
+    if (valid) {
+      // Invalid validation holds no value, so it is valid for any value type.
+      //noinspection unchecked
+      return (Validation<V, E>) other;
+    }
+
+    int count = moreCount + other.errorCount();
+    ErrorBuffer buffer = moreErrors;
+    if (count > buffer.errors.length || !buffer.size.compareAndSet(moreCount, count)) {
+      // Another validation already appended to the buffer or it is full.
+      Object[] grown = new Object[Math.max(count, Math.max(INITIAL_CAPACITY, buffer.errors.length * 2))];
+      System.arraycopy(buffer.errors, 0, grown, 0, moreCount);
+      buffer = new ErrorBuffer(grown, count);
+    }
+    buffer.errors[moreCount] = other.firstError;
+    System.arraycopy(other.moreErrors.errors, 0, buffer.errors, moreCount + 1, other.moreCount);
+    return new Validation<>(false, null, firstError, buffer, count);
+  }
+
+  /**
+   * Converts into {@link Result}.
+   *
+   * @return successful {@link Result} with value or failure with all errors.
+   */
+  public Result<V, List<E>> toResult() {
+    return valid ? Result.<V, List<E>>success(value) : Result.<V, List<E>>failure(errors());
+  }
+
+  /**
+   * Combines values of 2 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Combiner2<T1, T2, V> combiner) {
+    if (v1.valid && v2.valid) {
+      return valid(combiner.apply(v1.value, v2.value));
+    }
+    return merge(v1, v2);
+  }
+
+  /**
+   * Combines values of 3 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Combiner3<T1, T2, T3, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value));
+    }
+    return merge(v1, v2, v3);
+  }
+
+  /**
+   * Combines values of 4 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param v4 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, T4, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Validation<T4, E> v4,
+      Combiner4<T1, T2, T3, T4, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid && v4.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value, v4.value));
+    }
+    return merge(v1, v2, v3, v4);
+  }
+
+  /**
+   * Combines values of 5 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param v4 validation.
+   * @param v5 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, T4, T5, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Validation<T4, E> v4, Validation<T5, E> v5,
+      Combiner5<T1, T2, T3, T4, T5, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid && v4.valid && v5.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value, v4.value, v5.value));
+    }
+    return merge(v1, v2, v3, v4, v5);
+  }
+
+  /**
+   * Combines values of 6 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param v4 validation.
+   * @param v5 validation.
+   * @param v6 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, T4, T5, T6, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Validation<T4, E> v4, Validation<T5, E> v5,
+      Validation<T6, E> v6, Combiner6<T1, T2, T3, T4, T5, T6, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid && v4.valid && v5.valid && v6.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value, v4.value, v5.value, v6.value));
+    }
+    return merge(v1, v2, v3, v4, v5, v6);
+  }
+
+  /**
+   * Combines values of 7 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param v4 validation.
+   * @param v5 validation.
+   * @param v6 validation.
+   * @param v7 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Validation<T4, E> v4, Validation<T5, E> v5,
+      Validation<T6, E> v6, Validation<T7, E> v7, Combiner7<T1, T2, T3, T4, T5, T6, T7, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid && v4.valid && v5.valid && v6.valid && v7.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value, v4.value, v5.value, v6.value, v7.value));
+    }
+    return merge(v1, v2, v3, v4, v5, v6, v7);
+  }
+
+  /**
+   * Combines values of 8 validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param v1 validation.
+   * @param v2 validation.
+   * @param v3 validation.
+   * @param v4 validation.
+   * @param v5 validation.
+   * @param v6 validation.
+   * @param v7 validation.
+   * @param v8 validation.
+   * @param combiner function that combines valid values.
+   * @return new {@link Validation}.
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, V, E> Validation<V, E> combine(
+      Validation<T1, E> v1, Validation<T2, E> v2, Validation<T3, E> v3, Validation<T4, E> v4, Validation<T5, E> v5,
+      Validation<T6, E> v6, Validation<T7, E> v7, Validation<T8, E> v8,
+      Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, V> combiner) {
+    if (v1.valid && v2.valid && v3.valid && v4.valid && v5.valid && v6.valid && v7.valid && v8.valid) {
+      return valid(combiner.apply(v1.value, v2.value, v3.value, v4.value, v5.value, v6.value, v7.value, v8.value));
+    }
+    return merge(v1, v2, v3, v4, v5, v6, v7, v8);
+  }
+
+  /**
+   * Combines values of all validations if all of them are valid, otherwise collects errors of all of them in order.
+   *
+   * @param validations validations to be combined.
+   * @return new {@link Validation} with values in iteration order.
+   */
+  public static <V, E> Validation<List<V>, E> combineAll(Iterable<Validation<V, E>> validations) {
+    List<V> values = null;
+    Validation<?, E> firstInvalid = null;
+    Object[] more = null;
+    int moreCount = 0;
+    for (Validation<V, E> validation : validations) {
+      if (validation.valid) {
+        if (firstInvalid == null) {
+          if (values == null) values = new ArrayList<>();
+          values.add(validation.value);
+        }
+      } else if (firstInvalid == null) {
+        firstInvalid = validation;
+        values = null;
+      } else {
+        // Errors go to a single buffer that is copied once into the result.
+        if (more == null) {
+          moreCount = firstInvalid.moreCount;
+          more = new Object[Math.max(INITIAL_CAPACITY, moreCount * 2)];
+          System.arraycopy(firstInvalid.moreErrors.errors, 0, more, 0, moreCount);
+        }
+        int count = moreCount + validation.errorCount();
+        if (count > more.length) {
+          more = Arrays.copyOf(more, Math.max(count, more.length * 2));
+        }
+        more[moreCount] = validation.firstError;
+        System.arraycopy(validation.moreErrors.errors, 0, more, moreCount + 1, validation.moreCount);
+        moreCount = count;
+      }
+    }
+
+    if (more != null) {
+      return new Validation<>(false, null, firstInvalid.firstError, new ErrorBuffer(more, moreCount), moreCount);
+    }
+    if (firstInvalid != null) {
+      // Invalid validation holds no value, so it is valid for any value type.
+      //noinspection unchecked
+      return (Validation<List<V>, E>) firstInvalid;
+    }
+    return valid(values == null ? Collections.<V>emptyList() : values);
+  }
+
+  @SafeVarargs
+  private static <V, E> Validation<V, E> merge(Validation<?, E>... validations) {
+    int count = 0;
+    for (Validation<?, E> validation : validations) {
+      count += validation.errorCount();
+    }
+
+    E first = null;
+    Object[] more = count > 1 ? new Object[count - 1] : NO_MORE_ERRORS.errors;
+    int index = -1;
+    for (Validation<?, E> validation : validations) {
+      if (validation.valid) continue;
+
+      if (index < 0) {
+        first = validation.firstError;
+      } else {
+        more[index] = validation.firstError;
+      }
+      index++;
+      System.arraycopy(validation.moreErrors.errors, 0, more, index, validation.moreCount);
+      index += validation.moreCount;
+    }
+
+    return new Validation<>(false, null, first, count > 1 ? new ErrorBuffer(more, count - 1) : NO_MORE_ERRORS,
+                            count - 1);
+  }
+
+  @Override
+  public String toString() {
+    return valid ? "Valid[value=" + value + "]" : "Invalid[errors=" + errors() + "]";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    Validation<?, ?> that = (Validation<?, ?>) o;
+
+    if (valid != that.valid) return false;
+    if (valid) return value != null ? value.equals(that.value) : that.value == null;
+    return errors().equals(that.errors());
+  }
+
+  @Override
+  public int hashCode() {
+    if (valid) return value != null ? value.hashCode() : 0;
+    return 31 + errors().hashCode();
+  }
+
+  /**
+   * Errors after the first one, shared by validations appended to each other. Only the validation that holds as many
+   * errors as the buffer has claimed writes to the free capacity, the others copy.
+   */
+  private static final class ErrorBuffer {
+    final Object[] errors;
+    final AtomicInteger size;
+
+    ErrorBuffer(Object[] errors, int size) {
+      this.errors = errors;
+      this.size = new AtomicInteger(size);
+    }
+  }
+
+  /**
+   * A functional interface that combines 2 valid values into one.
+   */
+  public interface Combiner2<T1, T2, V> {
+    V apply(T1 v1, T2 v2);
+  }
+
+  /**
+   * A functional interface that combines 3 valid values into one.
+   */
+  public interface Combiner3<T1, T2, T3, V> {
+    V apply(T1 v1, T2 v2, T3 v3);
+  }
+
+  /**
+   * A functional interface that combines 4 valid values into one.
+   */
+  public interface Combiner4<T1, T2, T3, T4, V> {
+    V apply(T1 v1, T2 v2, T3 v3, T4 v4);
+  }
+
+  /**
+   * A functional interface that combines 5 valid values into one.
+   */
+  public interface Combiner5<T1, T2, T3, T4, T5, V> {
+    V apply(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5);
+  }
+
+  /**
+   * A functional interface that combines 6 valid values into one.
+   */
+  public interface Combiner6<T1, T2, T3, T4, T5, T6, V> {
+    V apply(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6);
+  }
+
+  /**
+   * A functional interface that combines 7 valid values into one.
+   */
+  public interface Combiner7<T1, T2, T3, T4, T5, T6, T7, V> {
+    V apply(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7);
+  }
+
+  /**
+   * A functional interface that combines 8 valid values into one.
+   */
+  public interface Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, V> {
+    V apply(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8);
+  }
+}
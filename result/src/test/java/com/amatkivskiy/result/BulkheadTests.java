@@ -0,0 +1,124 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BulkheadTests {
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+
+  private final Function<String> succeeding = new Function<String>() {
+    @Override public String call() throws Exception {
+      return OOOH_YEAH;
+    }
+  };
+
+  private final Function<String> failing = new Function<String>() {
+    @Override public String call() throws Exception {
+      throw new IllegalStateException();
+    }
+  };
+
+  @Test
+  public void testRejectsAboveLimit() throws Exception {
+    final Bulkhead bulkhead = Bulkhead.semaphore(1);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Result<String, Exception>> blocked = executor.submit(new Callable<Result<String, Exception>>() {
+        @Override public Result<String, Exception> call() {
+          return bulkhead.call(new Function<String>() {
+            @Override public String call() throws Exception {
+              started.countDown();
+              release.await();
+              return OOOH_YEAH;
+            }
+          });
+        }
+      });
+      started.await();
+
+      Result<String, Exception> first = bulkhead.call(succeeding);
+      Result<String, Exception> second = bulkhead.call(succeeding);
+      assertThat(first.error(), instanceOf(BulkheadFullException.class));
+      assertThat(second, sameInstance(first));
+      assertThat(bulkhead.inFlightCount(), is(1));
+      assertThat(bulkhead.rejectedCount(), is(2L));
+
+      release.countDown();
+      assertThat(blocked.get()
+                     .value(), is(OOOH_YEAH));
+      assertThat(bulkhead.call(succeeding)
+                     .value(), is(OOOH_YEAH));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailureReleasesPermit() throws Exception {
+    Bulkhead bulkhead = Bulkhead.semaphore(1);
+
+    Result<String, Exception> failure = bulkhead.call(failing);
+
+    assertThat(failure.error(), instanceOf(IllegalStateException.class));
+    assertThat(bulkhead.inFlightCount(), is(0));
+    assertThat(bulkhead.call(succeeding)
+                   .value(), is(OOOH_YEAH));
+  }
+
+  @Test
+  public void testSemaphoreLimitIsFixed() throws Exception {
+    Bulkhead bulkhead = Bulkhead.semaphore(2);
+
+    for (int i = 0; i < 100; i++) {
+      bulkhead.call(succeeding);
+    }
+
+    assertThat(bulkhead.limit(), is(2));
+  }
+
+  @Test
+  public void testAdaptiveDecreasesOnSlowCalls() throws Exception {
+    Bulkhead bulkhead = Bulkhead.adaptive(100, 2, 100, 0, TimeUnit.NANOSECONDS);
+
+    bulkhead.call(succeeding);
+    assertThat(bulkhead.limit(), is(90));
+
+    for (int i = 0; i < 100; i++) {
+      bulkhead.call(succeeding);
+    }
+    assertThat(bulkhead.limit(), is(2));
+  }
+
+  @Test
+  public void testAdaptiveIncreasesOnlyWhileUtilized() throws Exception {
+    Bulkhead bulkhead = Bulkhead.adaptive(2, 1, 10, 1, TimeUnit.MINUTES);
+
+    bulkhead.call(succeeding);
+    bulkhead.call(succeeding);
+    assertThat(bulkhead.limit(), is(3));
+
+    // Sequential calls use a single permit, which is less than a half of the limit now.
+    for (int i = 0; i < 100; i++) {
+      bulkhead.call(succeeding);
+    }
+    assertThat(bulkhead.limit(), is(3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidLimitsFail() throws Exception {
+    Bulkhead.adaptive(1, 2, 10, 1, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,134 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class CircuitBreakerTests {
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final Function<String> succeeding = new Function<String>() {
+    @Override public String call() throws Exception {
+      calls.incrementAndGet();
+      return OOOH_YEAH;
+    }
+  };
+
+  private final Function<String> failing = new Function<String>() {
+    @Override public String call() throws Exception {
+      calls.incrementAndGet();
+      throw new IllegalStateException();
+    }
+  };
+
+  @Test
+  public void testClosedCallsThrough() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 10, 10, TimeUnit.SECONDS);
+
+    Result<String, Exception> success = breaker.call(succeeding);
+    Result<String, Exception> failure = breaker.call(failing);
+
+    assertThat(success.value(), is(OOOH_YEAH));
+    assertThat(failure.error(), instanceOf(IllegalStateException.class));
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    assertThat(breaker.successCount(), is(1L));
+    assertThat(breaker.failureCount(), is(1L));
+  }
+
+  @Test
+  public void testOpensAtFailureRate() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 10, 10, TimeUnit.SECONDS);
+
+    breaker.call(succeeding);
+    breaker.call(succeeding);
+    breaker.call(failing);
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    breaker.call(failing);
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+
+    calls.set(0);
+    Result<String, Exception> first = breaker.call(succeeding);
+    Result<String, Exception> second = breaker.call(succeeding);
+
+    assertThat(calls.get(), is(0));
+    assertThat(first.error(), instanceOf(CircuitBreakerOpenException.class));
+    assertThat((Object) first, sameInstance((Object) second));
+    assertThat(breaker.rejectedCount(), is(2L));
+  }
+
+  @Test
+  public void testHalfOpenTrialClosesBreaker() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(1, 1, 10, 50, TimeUnit.MILLISECONDS);
+
+    breaker.call(failing);
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+
+    Thread.sleep(100);
+    Result<String, Exception> trial = breaker.call(succeeding);
+
+    assertThat(trial.value(), is(OOOH_YEAH));
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    assertThat(breaker.failureCount(), is(0L));
+  }
+
+  @Test
+  public void testHalfOpenTrialFailureReopensBreaker() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(1, 1, 10, 50, TimeUnit.MILLISECONDS);
+
+    breaker.call(failing);
+    Thread.sleep(100);
+    breaker.call(failing);
+
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    assertThat(breaker.call(succeeding)
+                   .isSuccess(), is(false));
+  }
+
+  @Test
+  public void testHalfOpenTrialErrorReopensBreaker() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(1, 1, 10, 50, TimeUnit.MILLISECONDS);
+
+    breaker.call(failing);
+    Thread.sleep(100);
+    try {
+      breaker.call(new Function<String>() {
+        @Override public String call() throws Exception {
+          throw new AssertionError();
+        }
+      });
+      fail();
+    } catch (AssertionError expected) {
+      assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    }
+
+    assertThat(breaker.call(succeeding)
+                   .isSuccess(), is(false));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  public void testOldFailuresLeaveWindow() throws Exception {
+    CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 100, 10, TimeUnit.MILLISECONDS);
+
+    breaker.call(failing);
+    Thread.sleep(200);
+    breaker.call(succeeding);
+
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    assertThat(breaker.failureCount(), is(0L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThresholdFails() throws Exception {
+    new CircuitBreaker(0, 1, 1, 1, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,40 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DoubleResultTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  @Test
+  public void testMapCorrect() throws Exception {
+    DoubleTransformer half = new DoubleTransformer() {
+      @Override public double apply(double value) {
+        return value / 2;
+      }
+    };
+
+    assertThat(DoubleResult.success(3.0).map(half).value(), is(1.5));
+
+    DoubleResult<String> failure = DoubleResult.failure(OOOH_NOOO);
+    assertThat(failure.map(half), sameInstance(failure));
+    assertThat(failure.or(-1.0), is(-1.0));
+  }
+
+  @Test
+  public void testConversionCorrect() throws Exception {
+    assertThat(DoubleResult.<String>success(1.5).toResult(), is(Result.<Double, String>success(1.5)));
+    assertThat(DoubleResult.from(Result.<Double, String>failure(OOOH_NOOO)),
+               is(DoubleResult.<String>failure(OOOH_NOOO)));
+  }
+
+  @Test
+  public void testEqualsAndHashCodeCorrect() throws Exception {
+    assertThat(DoubleResult.success(Double.NaN), is(DoubleResult.success(Double.NaN)));
+    assertThat(DoubleResult.success(0.0).equals(DoubleResult.success(-0.0)), is(false));
+    assertThat(DoubleResult.success(1.5).hashCode(), is(Double.valueOf(1.5).hashCode()));
+  }
+}
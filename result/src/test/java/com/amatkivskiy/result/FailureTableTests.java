@@ -0,0 +1,87 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class FailureTableTests {
+  private static final ErrorCode NOT_FOUND = new ErrorCode(404, "Not found.");
+  private static final ErrorCode CONFLICT = new ErrorCode(409, "Conflict.");
+  private static final ErrorCode UNAVAILABLE = new ErrorCode(503, "Unavailable.");
+
+  private enum Reason {
+    EMPTY, MALFORMED, OVERFLOW
+  }
+
+  @Test
+  public void testEnumFailuresAreInterned() throws Exception {
+    FailureTable<Reason> table = FailureTable.of(Reason.class);
+
+    Result<Integer, Reason> first = table.failure(Reason.MALFORMED);
+    Result<String, Reason> second = table.failure(Reason.MALFORMED);
+
+    assertThat(first.error(), is(Reason.MALFORMED));
+    assertThat((Object) second, sameInstance((Object) first));
+    assertThat((Object) table.failure(Reason.MALFORMED.ordinal()), sameInstance((Object) first));
+    assertThat(table.failure(Reason.OVERFLOW)
+                   .isSuccess(), is(false));
+  }
+
+  @Test
+  public void testErrorCodeFailuresAreInterned() throws Exception {
+    FailureTable<ErrorCode> table = FailureTable.of(NOT_FOUND, CONFLICT, UNAVAILABLE);
+
+    Result<String, ErrorCode> failure = table.failure(404);
+
+    assertThat(failure.error(), sameInstance(NOT_FOUND));
+    assertThat(table.<String>failure(NOT_FOUND), sameInstance(failure));
+    assertThat(table.failure(503)
+                   .error(), sameInstance(UNAVAILABLE));
+  }
+
+  @Test
+  public void testContextFailureIsNotInterned() throws Exception {
+    FailureTable<ErrorCode> table = FailureTable.of(NOT_FOUND, CONFLICT);
+    ErrorCode withContext = NOT_FOUND.withContext("user 42");
+
+    Result<String, ErrorCode> failure = table.failure(withContext);
+
+    assertThat(failure, not(sameInstance(table.<String>failure(404))));
+    assertThat(failure.error()
+                   .context(), is((Object) "user 42"));
+    assertThat(failure.error()
+                   .sameCode(NOT_FOUND), is(true));
+    assertThat(failure.equals(table.failure(404)), is(false));
+  }
+
+  @Test
+  public void testErrorCodeEqualityIsIdentity() throws Exception {
+    ErrorCode copy = new ErrorCode(404, "Not found.");
+
+    assertThat(NOT_FOUND.equals(copy), is(false));
+    assertThat(NOT_FOUND.sameCode(copy), is(true));
+    assertThat(NOT_FOUND.hashCode(), is(404));
+    assertThat(NOT_FOUND.toString(), is("ErrorCode[code=404, message=Not found.]"));
+    assertThat(NOT_FOUND.withContext(7)
+                   .toString(), is("ErrorCode[code=404, message=Not found., context=7]"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownCodeFails() throws Exception {
+    FailureTable.of(NOT_FOUND, CONFLICT)
+        .failure(410);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateCodesFail() throws Exception {
+    FailureTable.of(NOT_FOUND, new ErrorCode(404, "Missing."));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWideCodeRangeFails() throws Exception {
+    FailureTable.of(new ErrorCode(0, "Zero."), new ErrorCode(Integer.MAX_VALUE, "Max."));
+  }
+}
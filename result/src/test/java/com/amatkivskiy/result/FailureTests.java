@@ -55,4 +55,15 @@ public class FailureTests {
     //noinspection EqualsBetweenInconvertibleTypes
     assertThat(one.equals(OOOH_YESSS), is(false));
   }
+
+  @Test
+  public void testEqualsSkipsErrorEqualsForSameInstance() throws Exception {
+    Object error = new Object() {
+      @Override public boolean equals(Object obj) {
+        throw new AssertionError();
+      }
+    };
+
+    assertThat(new Failure<>(error).equals(new Failure<>(error)), is(true));
+  }
 }
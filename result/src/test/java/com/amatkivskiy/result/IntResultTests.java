@@ -0,0 +1,122 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class IntResultTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  @Test
+  public void testSuccessCorrect() throws Exception {
+    IntResult<String> result = IntResult.success(42);
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.isEmpty(), is(false));
+    assertThat(result.value(), is(42));
+    assertThat(result.error(), is(nullValue()));
+    assertThat(result.toString(), is("IntSuccess[value=42]"));
+  }
+
+  @Test
+  public void testFailureCorrect() throws Exception {
+    IntResult<String> result = IntResult.failure(OOOH_NOOO);
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.isEmpty(), is(false));
+    assertThat(result.value(), is(0));
+    assertThat(result.error(), is(OOOH_NOOO));
+    assertThat(result.toString(), is("IntFailure[failure=Oooh! Nooo!]"));
+
+    assertThat(IntResult.failure(null).isEmpty(), is(true));
+    assertThat(IntResult.failure(null), sameInstance(IntResult.failure(null)));
+  }
+
+  @Test
+  public void testMapCorrect() throws Exception {
+    IntTransformer increment = new IntTransformer() {
+      @Override public int apply(int value) {
+        return value + 1;
+      }
+    };
+
+    assertThat(IntResult.success(1).map(increment).value(), is(2));
+
+    IntResult<String> failure = IntResult.failure(OOOH_NOOO);
+    assertThat(failure.map(increment), sameInstance(failure));
+  }
+
+  @Test
+  public void testFlatMapCorrect() throws Exception {
+    IntResult<Exception> result = IntResult.<String>failure(OOOH_NOOO)
+        .flatMap(new Transformer<IntResult<String>, IntResult<Exception>>() {
+          @Override public IntResult<Exception> apply(IntResult<String> value) {
+            return IntResult.success(value.error().length());
+          }
+        });
+
+    assertThat(result.value(), is(OOOH_NOOO.length()));
+  }
+
+  @Test
+  public void testOnSuccessOnFailureCorrect() throws Exception {
+    IntResult.<String>success(1)
+        .onSuccess(new IntConsumer() {
+          @Override public void accept(int value) {
+            assertThat(value, is(1));
+          }
+        })
+        .onFailure(new Consumer<String>() {
+          @Override public void accept(String value) {
+            fail("onFailure() should not be called.");
+          }
+        });
+
+    IntResult.<String>failure(OOOH_NOOO)
+        .onSuccess(new IntConsumer() {
+          @Override public void accept(int value) {
+            fail("onSuccess() should not be called.");
+          }
+        })
+        .onFailure(new Consumer<String>() {
+          @Override public void accept(String value) {
+            assertThat(value, is(OOOH_NOOO));
+          }
+        });
+  }
+
+  @Test
+  public void testOrCorrect() throws Exception {
+    assertThat(IntResult.success(1).or(-1), is(1));
+    assertThat(IntResult.failure(OOOH_NOOO).or(-1), is(-1));
+  }
+
+  @Test
+  public void testConversionCorrect() throws Exception {
+    assertThat(IntResult.<String>success(1).toResult(), is(Result.<Integer, String>success(1)));
+    assertThat(IntResult.<String>failure(OOOH_NOOO).toResult(), is(Result.<Integer, String>failure(OOOH_NOOO)));
+
+    assertThat(IntResult.from(Result.<Integer, String>success(1)), is(IntResult.<String>success(1)));
+    assertThat(IntResult.from(Result.<Integer, String>failure(OOOH_NOOO)), is(IntResult.<String>failure(OOOH_NOOO)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromEmptySuccessFails() throws Exception {
+    IntResult.from(Result.<Integer, String>success(null));
+  }
+
+  @Test
+  public void testEqualsAndHashCodeCorrect() throws Exception {
+    assertThat(IntResult.success(1).equals(IntResult.success(1)), is(true));
+    assertThat(IntResult.success(1).equals(IntResult.success(2)), is(false));
+    assertThat(IntResult.success(0).equals(IntResult.failure(null)), is(false));
+    assertThat(IntResult.failure(OOOH_NOOO).equals(IntResult.failure(OOOH_NOOO)), is(true));
+
+    assertThat(IntResult.success(1).hashCode(), is(1));
+    assertThat(IntResult.failure(OOOH_NOOO).hashCode(), is(OOOH_NOOO.hashCode()));
+  }
+}
@@ -0,0 +1,61 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LatencyHistogramTests {
+  @Test
+  public void testSmallValuesAreExact() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.count(), is(10L));
+    assertThat(histogram.valueAtPercentile(50), is(5L));
+    assertThat(histogram.valueAtPercentile(100), is(10L));
+    assertThat(histogram.max(), is(10L));
+  }
+
+  @Test
+  public void testLargeValuesAreWithinPrecision() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000);
+    }
+
+    long median = histogram.valueAtPercentile(50);
+    long p99 = histogram.valueAtPercentile(99);
+    assertThat(Math.abs(median - 500000) <= 500000 / 32, is(true));
+    assertThat(Math.abs(p99 - 990000) <= 990000 / 32, is(true));
+    assertThat(histogram.valueAtPercentile(100), is(1000000L));
+  }
+
+  @Test
+  public void testEmptyHistogram() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertThat(histogram.count(), is(0L));
+    assertThat(histogram.valueAtPercentile(99), is(0L));
+  }
+
+  @Test
+  public void testBucketsCoverWholeRange() throws Exception {
+    long[] values = {0, 63, 64, 65, 127, 128, 1000, 123456789, Long.MAX_VALUE};
+
+    for (long value : values) {
+      int index = LatencyHistogram.indexOf(value);
+      assertThat(LatencyHistogram.highestEquivalentValue(index) >= value, is(true));
+      assertThat(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value, is(true));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentileFails() throws Exception {
+    new LatencyHistogram().valueAtPercentile(101);
+  }
+}
@@ -0,0 +1,38 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LongResultTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  @Test
+  public void testMapCorrect() throws Exception {
+    LongTransformer twice = new LongTransformer() {
+      @Override public long apply(long value) {
+        return value * 2;
+      }
+    };
+
+    assertThat(LongResult.success(Long.MAX_VALUE / 2).map(twice).value(), is(Long.MAX_VALUE - 1));
+
+    LongResult<String> failure = LongResult.failure(OOOH_NOOO);
+    assertThat(failure.map(twice), sameInstance(failure));
+    assertThat(failure.or(-1L), is(-1L));
+  }
+
+  @Test
+  public void testConversionCorrect() throws Exception {
+    assertThat(LongResult.<String>success(1L).toResult(), is(Result.<Long, String>success(1L)));
+    assertThat(LongResult.from(Result.<Long, String>failure(OOOH_NOOO)), is(LongResult.<String>failure(OOOH_NOOO)));
+  }
+
+  @Test
+  public void testEqualsAndHashCodeCorrect() throws Exception {
+    assertThat(LongResult.success(1L), is(LongResult.success(1L)));
+    assertThat(LongResult.success(1L).hashCode(), is(Long.valueOf(1L).hashCode()));
+  }
+}
@@ -0,0 +1,129 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class RateLimiterTests {
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final Function<String> succeeding = new Function<String>() {
+    @Override public String call() throws Exception {
+      calls.incrementAndGet();
+      return OOOH_YEAH;
+    }
+  };
+
+  @Test
+  public void testTokenBucketAllowsBurst() throws Exception {
+    RateLimiter limiter = RateLimiter.tokenBucket(1, 1, TimeUnit.MINUTES, 3);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(limiter.tryCall(succeeding)
+                     .value(), is(OOOH_YEAH));
+    }
+    Result<String, Exception> first = limiter.tryCall(succeeding);
+    Result<String, Exception> second = limiter.tryCall(succeeding);
+
+    assertThat(first.error(), instanceOf(RateLimitExceededException.class));
+    assertThat(second, sameInstance(first));
+    assertThat(((RateLimitExceededException) first.error()).retryAfter(TimeUnit.SECONDS), is(60L));
+    assertThat(limiter.nanosUntilPermit() > TimeUnit.SECONDS.toNanos(50), is(true));
+    assertThat(calls.get(), is(3));
+    assertThat(limiter.rejectedCount(), is(2L));
+  }
+
+  @Test
+  public void testTokenBucketRefills() throws Exception {
+    RateLimiter limiter = RateLimiter.tokenBucket(1, 50, TimeUnit.MILLISECONDS, 1);
+
+    assertThat(limiter.tryAcquire(), is(true));
+    assertThat(limiter.tryAcquire(), is(false));
+    Thread.sleep(100);
+
+    assertThat(limiter.nanosUntilPermit(), is(0L));
+    assertThat(limiter.tryAcquire(), is(true));
+  }
+
+  @Test
+  public void testSlidingWindowLimitsCallsInWindow() throws Exception {
+    RateLimiter limiter = RateLimiter.slidingWindow(5, 100, TimeUnit.MILLISECONDS);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(), is(true));
+    }
+    assertThat(limiter.tryAcquire(), is(false));
+    assertThat(limiter.nanosUntilPermit() > 0, is(true));
+
+    Thread.sleep(150);
+    assertThat(limiter.tryAcquire(), is(true));
+  }
+
+  @Test
+  public void testSlidingWindowRetryAfterIsWholeWindow() throws Exception {
+    RateLimiter limiter = RateLimiter.slidingWindow(1, 1, TimeUnit.MINUTES);
+
+    limiter.tryAcquire();
+    Result<String, Exception> rejected = limiter.tryCall(succeeding);
+
+    assertThat(((RateLimitExceededException) rejected.error()).retryAfter(TimeUnit.SECONDS), is(60L));
+    assertThat(limiter.nanosUntilPermit() <= TimeUnit.MINUTES.toNanos(1), is(true));
+  }
+
+  @Test
+  public void testSlidingWindowNeverAdmitsMoreThanLimitConcurrently() throws Exception {
+    final RateLimiter limiter = RateLimiter.slidingWindow(100, 1, TimeUnit.MINUTES);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      Future<?>[] futures = new Future<?>[8];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] = executor.submit(new Callable<Void>() {
+          @Override public Void call() {
+            for (int j = 0; j < 1000; j++) {
+              limiter.tryCall(succeeding);
+            }
+            return null;
+          }
+        });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(calls.get() <= 100, is(true));
+    assertThat(calls.get() + limiter.rejectedCount(), is(8000L));
+  }
+
+  @Test
+  public void testCapturesExceptionLikeResultOf() throws Exception {
+    RateLimiter limiter = RateLimiter.tokenBucket(10, 1, TimeUnit.SECONDS, 10);
+
+    Result<Integer, Exception> result = limiter.tryCall(new Function<Integer>() {
+      @Override public Integer call() throws Exception {
+        return Integer.parseInt("invalid");
+      }
+    });
+
+    assertThat(result.error(), instanceOf(NumberFormatException.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPermitsFail() throws Exception {
+    RateLimiter.slidingWindow(0, 1, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,171 @@
+package com.amatkivskiy.result;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResultBatcherTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(16);
+  private final List<List<Integer>> loads = new CopyOnWriteArrayList<>();
+
+  /**
+   * In-memory stand-in of a database: even ids exist, odd ids fail, negative ids are missing.
+   */
+  private final Transformer<List<Integer>, Result<Map<Integer, Result<String, String>>, String>> database =
+      new Transformer<List<Integer>, Result<Map<Integer, Result<String, String>>, String>>() {
+        @Override public Result<Map<Integer, Result<String, String>>, String> apply(List<Integer> ids) {
+          loads.add(ids);
+          Map<Integer, Result<String, String>> rows = new HashMap<>();
+          for (Integer id : ids) {
+            if (id >= 0) {
+              rows.put(id, id % 2 == 0 ? Result.<String, String>success("row " + id)
+                                       : Result.<String, String>failure("broken " + id));
+            }
+          }
+          return Result.success(rows);
+        }
+      };
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testCoalescesConcurrentLookups() throws Exception {
+    ResultBatcher<Integer, String, String> batcher = new ResultBatcher<>(1000, 100, TimeUnit.MILLISECONDS, database);
+
+    List<Future<Result<String, String>>> futures = getAll(batcher, 0, 64);
+
+    for (int i = 0; i < futures.size(); i++) {
+      Result<String, String> result = futures.get(i)
+          .get();
+      if (i % 2 == 0) {
+        assertThat(result.value(), is("row " + i));
+      } else {
+        assertThat(result.error(), is("broken " + i));
+      }
+    }
+    assertThat(batcher.batchCount() < 64, is(true));
+  }
+
+  @Test
+  public void testLoadsFullBatchRightAway() throws Exception {
+    ResultBatcher<Integer, String, String> batcher = new ResultBatcher<>(4, 1, TimeUnit.MINUTES, database);
+
+    long start = System.nanoTime();
+    List<Future<Result<String, String>>> futures = getAll(batcher, 0, 8);
+    for (Future<Result<String, String>> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10, is(true));
+    assertThat(batcher.batchCount(), is(2L));
+    for (List<Integer> load : loads) {
+      assertThat(load.size(), is(4));
+    }
+  }
+
+  @Test
+  public void testSingleLookupWaitsForWindow() throws Exception {
+    ResultBatcher<Integer, String, String> batcher = new ResultBatcher<>(10, 10, TimeUnit.MILLISECONDS, database);
+
+    assertThat(batcher.get(2)
+                   .value(), is("row 2"));
+    assertThat(batcher.get(-1)
+                   .isEmpty(), is(true));
+    assertThat(batcher.batchCount(), is(2L));
+  }
+
+  @Test
+  public void testDuplicateKeysAreLoadedOnce() throws Exception {
+    final ResultBatcher<Integer, String, String> batcher =
+        new ResultBatcher<>(1000, 100, TimeUnit.MILLISECONDS, database);
+    List<Future<Result<String, String>>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(executor.submit(new Callable<Result<String, String>>() {
+        @Override public Result<String, String> call() {
+          return batcher.get(2);
+        }
+      }));
+    }
+
+    for (Future<Result<String, String>> future : futures) {
+      assertThat(future.get()
+                     .value(), is("row 2"));
+    }
+    int loaded = 0;
+    for (List<Integer> load : loads) {
+      loaded += load.size();
+    }
+    assertThat(loaded, is((int) batcher.batchCount()));
+  }
+
+  @Test
+  public void testBatchFailureFailsEveryKey() throws Exception {
+    ResultBatcher<Integer, String, String> batcher = new ResultBatcher<>(
+        1000, 50, TimeUnit.MILLISECONDS,
+        new Transformer<List<Integer>, Result<Map<Integer, Result<String, String>>, String>>() {
+          @Override public Result<Map<Integer, Result<String, String>>, String> apply(List<Integer> ids) {
+            return Result.failure(OOOH_NOOO);
+          }
+        });
+
+    for (Future<Result<String, String>> future : getAll(batcher, 0, 8)) {
+      assertThat(future.get()
+                     .error(), is(OOOH_NOOO));
+    }
+  }
+
+  @Test
+  public void testLoaderExceptionIsRethrownToEveryCaller() throws Exception {
+    ResultBatcher<Integer, String, String> batcher = new ResultBatcher<>(
+        1000, 50, TimeUnit.MILLISECONDS,
+        new Transformer<List<Integer>, Result<Map<Integer, Result<String, String>>, String>>() {
+          @Override public Result<Map<Integer, Result<String, String>>, String> apply(List<Integer> ids) {
+            throw new IllegalStateException(OOOH_NOOO);
+          }
+        });
+
+    for (Future<Result<String, String>> future : getAll(batcher, 0, 8)) {
+      try {
+        future.get();
+        fail();
+      } catch (ExecutionException expected) {
+        assertThat(expected.getCause(), instanceOf(IllegalStateException.class));
+      }
+    }
+  }
+
+  private List<Future<Result<String, String>>> getAll(final ResultBatcher<Integer, String, String> batcher, int from,
+                                                      int to) {
+    List<Future<Result<String, String>>> futures = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      final int id = i;
+      futures.add(executor.submit(new Callable<Result<String, String>>() {
+        @Override public Result<String, String> call() {
+          return batcher.get(id);
+        }
+      }));
+    }
+    return futures;
+  }
+}
@@ -0,0 +1,274 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultCacheTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Transformer<String, Result<Integer, String>> length =
+      new Transformer<String, Result<Integer, String>>() {
+        @Override public Result<Integer, String> apply(String value) {
+          loads.incrementAndGet();
+          return Result.success(value.length());
+        }
+      };
+
+  private final Transformer<String, Result<Integer, String>> failing =
+      new Transformer<String, Result<Integer, String>>() {
+        @Override public Result<Integer, String> apply(String value) {
+          loads.incrementAndGet();
+          return Result.failure(OOOH_NOOO);
+        }
+      };
+
+  @Test
+  public void testCachesSuccess() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+
+    Result<Integer, String> first = cache.get("one", length);
+    Result<Integer, String> second = cache.get("one", length);
+
+    assertThat(first.value(), is(3));
+    assertThat(second, sameInstance(first));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.hitCount(), is(1L));
+    assertThat(cache.missCount(), is(1L));
+  }
+
+  @Test
+  public void testCachesFailureWithSeparateTtl() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 50, TimeUnit.MILLISECONDS);
+
+    cache.get("one", failing);
+    cache.get("one", failing);
+    assertThat(loads.get(), is(1));
+
+    Thread.sleep(100);
+    cache.get("one", failing);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void testZeroFailureTtlDisablesNegativeCaching() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 0, TimeUnit.MINUTES);
+
+    cache.get("one", failing);
+    cache.get("one", failing);
+
+    assertThat(loads.get(), is(2));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  public void testSuccessExpires() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(10, 50, 0, TimeUnit.MILLISECONDS);
+
+    cache.get("one", length);
+    Thread.sleep(100);
+    cache.get("one", length);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(1, 1, 1, TimeUnit.MINUTES);
+
+    cache.get("one", length);
+    cache.get("three", length);
+    cache.get("one", length);
+
+    assertThat(cache.size(), is(1));
+    assertThat(cache.evictionCount(), is(2L));
+    assertThat(loads.get(), is(3));
+  }
+
+  @Test
+  public void testSizeIsBounded() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(100, 1, 1, TimeUnit.MINUTES);
+
+    for (int i = 0; i < 1000; i++) {
+      cache.get("key" + i, length);
+    }
+
+    assertThat(cache.size() <= 100, is(true));
+    assertThat(cache.evictionCount(), is(1000L - cache.size()));
+  }
+
+  @Test
+  public void testInvalidateCorrect() throws Exception {
+    ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+
+    cache.get("one", length);
+    cache.invalidate("one");
+    cache.get("one", length);
+    cache.invalidateAll();
+    cache.get("one", length);
+
+    assertThat(loads.get(), is(3));
+  }
+
+  @Test
+  public void testInvalidatedLoadIsNotCached() throws Exception {
+    final ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Transformer<String, Result<Integer, String>> slow = new Transformer<String, Result<Integer, String>>() {
+      @Override public Result<Integer, String> apply(String value) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        return Result.success(-1);
+      }
+    };
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Result<Integer, String>> stale = executor.submit(
+          new java.util.concurrent.Callable<Result<Integer, String>>() {
+            @Override public Result<Integer, String> call() {
+              return cache.get("one", slow);
+            }
+          });
+
+      started.await();
+      cache.invalidate("one");
+      release.countDown();
+
+      assertThat(stale.get()
+                     .value(), is(-1));
+      assertThat(cache.size(), is(0));
+      assertThat(cache.get("one", length)
+                     .value(), is(3));
+      assertThat(loads.get(), is(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInvalidatingOtherKeyKeepsLoadCached() throws Exception {
+    // Single segment, so both keys share it.
+    final ResultCache<String, Integer, String> cache = new ResultCache<>(1, 1, 1, TimeUnit.MINUTES);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Transformer<String, Result<Integer, String>> slow = new Transformer<String, Result<Integer, String>>() {
+      @Override public Result<Integer, String> apply(String value) {
+        loads.incrementAndGet();
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        return Result.success(value.length());
+      }
+    };
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Result<Integer, String>> loaded = executor.submit(
+          new java.util.concurrent.Callable<Result<Integer, String>>() {
+            @Override public Result<Integer, String> call() {
+              return cache.get("one", slow);
+            }
+          });
+
+      started.await();
+      cache.invalidate("two");
+      release.countDown();
+      loaded.get();
+
+      assertThat(cache.get("one", length)
+                     .value(), is(3));
+      assertThat(loads.get(), is(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRecursiveLoadFails() throws Exception {
+    final ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+
+    cache.get("one", new Transformer<String, Result<Integer, String>>() {
+      @Override public Result<Integer, String> apply(String value) {
+        return cache.get("one", length);
+      }
+    });
+  }
+
+  @Test
+  public void testFunctionFailureIsCached() throws Exception {
+    ResultCache<String, Integer, Exception> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+    Function<Integer> parse = new Function<Integer>() {
+      @Override public Integer call() throws Exception {
+        loads.incrementAndGet();
+        return Integer.parseInt("invalid");
+      }
+    };
+
+    Result<Integer, Exception> first = cache.get("invalid", parse);
+    cache.get("invalid", parse);
+
+    assertThat(first.error(), instanceOf(NumberFormatException.class));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void testConcurrentMissesLoadOnce() throws Exception {
+    final ResultCache<String, Integer, String> cache = new ResultCache<>(10, 1, 1, TimeUnit.MINUTES);
+    final CountDownLatch release = new CountDownLatch(1);
+    final Transformer<String, Result<Integer, String>> slow = new Transformer<String, Result<Integer, String>>() {
+      @Override public Result<Integer, String> apply(String value) {
+        loads.incrementAndGet();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        return Result.success(value.length());
+      }
+    };
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      @SuppressWarnings("unchecked")
+      Future<Result<Integer, String>>[] futures = new Future[8];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] = executor.submit(new java.util.concurrent.Callable<Result<Integer, String>>() {
+          @Override public Result<Integer, String> call() {
+            return cache.get("one", slow);
+          }
+        });
+      }
+
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<Result<Integer, String>> future : futures) {
+        assertThat(future.get()
+                       .value(), is(3));
+      }
+      assertThat(loads.get(), is(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResultCodecTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  private final ResultCodec<Integer, String> codec = new ResultCodec<>(PayloadCodecs.INTEGER, PayloadCodecs.STRING);
+
+  @Test
+  public void testRoundTripCorrect() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    List<Result<Integer, String>> results = Arrays.asList(Result.<Integer, String>success(42),
+                                                          Result.<Integer, String>failure(OOOH_NOOO),
+                                                          Result.<Integer, String>success(null),
+                                                          Result.<Integer, String>failure(null));
+
+    for (Result<Integer, String> result : results) {
+      codec.encode(result, buffer);
+    }
+    buffer.flip();
+
+    for (Result<Integer, String> result : results) {
+      assertThat(codec.decode(buffer), is(result));
+    }
+    assertThat(buffer.hasRemaining(), is(false));
+  }
+
+  @Test
+  public void testSizeMatchesEncodedBytes() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    Result<Integer, String> failure = Result.failure(OOOH_NOOO);
+
+    codec.encode(failure, buffer);
+
+    assertThat(codec.size(failure), is(buffer.position()));
+    assertThat(codec.size(Result.<Integer, String>success(1)), is(5));
+    assertThat(codec.size(Result.<Integer, String>success(null)), is(1));
+  }
+
+  @Test
+  public void testBatchRoundTripCorrect() throws Exception {
+    List<Result<Integer, String>> results = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      results.add(i % 3 == 0 ? Result.<Integer, String>failure("error " + i) : Result.<Integer, String>success(i));
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(codec.size(results));
+
+    codec.encodeAll(results, buffer);
+    assertThat(buffer.hasRemaining(), is(false));
+    buffer.flip();
+
+    assertThat(codec.decodeAll(buffer), is(results));
+  }
+
+  @Test
+  public void testBatchDecodeToConsumerCorrect() throws Exception {
+    List<Result<Integer, String>> results = Arrays.asList(Result.<Integer, String>success(1),
+                                                          Result.<Integer, String>failure(OOOH_NOOO));
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    codec.encodeAll(results, buffer);
+    buffer.flip();
+
+    final List<Result<Integer, String>> decoded = new ArrayList<>();
+    int count = codec.decodeAll(buffer, new Consumer<Result<Integer, String>>() {
+      @Override public void accept(Result<Integer, String> value) {
+        decoded.add(value);
+      }
+    });
+
+    assertThat(count, is(2));
+    assertThat(decoded, is(results));
+  }
+
+  @Test
+  public void testOverflowKeepsPosition() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.put((byte) 7);
+
+    try {
+      codec.encode(Result.<Integer, String>failure(OOOH_NOOO), buffer);
+      fail();
+    } catch (BufferOverflowException expected) {
+      assertThat(buffer.position(), is(1));
+    }
+  }
+
+  @Test
+  public void testUnderflowKeepsPosition() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    codec.encode(Result.<Integer, String>failure(OOOH_NOOO), buffer);
+    buffer.flip();
+    buffer.limit(buffer.limit() - 1);
+
+    try {
+      codec.decode(buffer);
+      fail();
+    } catch (BufferUnderflowException expected) {
+      assertThat(buffer.position(), is(0));
+    }
+
+    buffer.limit(buffer.capacity());
+    assertThat(codec.decode(buffer)
+                   .error(), is(OOOH_NOOO));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownTagFails() throws Exception {
+    codec.decode(ByteBuffer.wrap(new byte[] {42}));
+  }
+
+  @Test
+  public void testStringMatchesUtf8() throws Exception {
+    String text = "R\u00e9sum\u00e9 \u2713 \uD83D\uDE00 \uD800";
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+
+    PayloadCodecs.STRING.encode(text, buffer);
+    buffer.flip();
+    byte[] expected = text.getBytes(Charset.forName("UTF-8"));
+
+    assertThat(PayloadCodecs.STRING.size(text), is(buffer.remaining()));
+    assertThat(PayloadCodecs.getVarInt(buffer), is(expected.length));
+    byte[] actual = new byte[buffer.remaining()];
+    buffer.get(actual);
+    assertThat(Arrays.equals(actual, expected), is(true));
+  }
+
+  @Test
+  public void testStringFromDirectBufferCorrect() throws Exception {
+    String text = "R\u00e9sum\u00e9 \u2713 \uD83D\uDE00";
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+    PayloadCodecs.STRING.encode(text, buffer);
+    buffer.flip();
+
+    assertThat(PayloadCodecs.STRING.decode(buffer), is(text));
+  }
+
+  @Test
+  public void testByteBufferIsNotCopied() throws Exception {
+    ResultCodec<ByteBuffer, String> bytes = new ResultCodec<>(PayloadCodecs.BYTE_BUFFER, PayloadCodecs.STRING);
+    ByteBuffer payload = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+
+    bytes.encode(Result.<ByteBuffer, String>success(payload), buffer);
+    assertThat(payload.remaining(), is(3));
+    buffer.flip();
+    ByteBuffer decoded = bytes.decode(buffer)
+        .value();
+    buffer.put(2, (byte) 9);
+
+    assertThat(decoded.remaining(), is(3));
+    assertThat(decoded.get(0), is((byte) 9));
+    assertThat(decoded.isReadOnly(), is(true));
+  }
+
+  @Test
+  public void testUsesBufferByteOrder() throws Exception {
+    ResultCodec<Long, Double> numbers = new ResultCodec<>(PayloadCodecs.LONG, PayloadCodecs.DOUBLE);
+    ByteBuffer buffer = ByteBuffer.allocate(32)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    numbers.encode(Result.<Long, Double>success(1L), buffer);
+    numbers.encode(Result.<Long, Double>failure(0.5), buffer);
+    buffer.flip();
+
+    assertThat(buffer.get(1), is((byte) 1));
+    assertThat(numbers.decode(buffer)
+                   .value(), is(1L));
+    assertThat(numbers.decode(buffer)
+                   .error(), is(0.5));
+  }
+
+  @Test
+  public void testVarIntRoundTripCorrect() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    int[] values = {0, 127, 128, 16383, 16384, Integer.MAX_VALUE};
+
+    for (int value : values) {
+      PayloadCodecs.putVarInt(buffer, value);
+    }
+    buffer.flip();
+
+    for (int value : values) {
+      int position = buffer.position();
+      assertThat(PayloadCodecs.getVarInt(buffer), is(value));
+      assertThat(buffer.position() - position, is(PayloadCodecs.varIntSize(value)));
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultExceptionTests {
+  private static final ResultException INVALID = new ResultException("Invalid.");
+
+  @Test
+  public void testHasNoStackTrace() throws Exception {
+    ResultException exception = new ResultException("Oooh! Nooo!");
+
+    assertThat(exception.getStackTrace().length, is(0));
+    assertThat(exception.getMessage(), is("Oooh! Nooo!"));
+  }
+
+  @Test
+  public void testIgnoresSuppressed() throws Exception {
+    ResultException exception = new ResultException("Oooh! Nooo!", new IllegalStateException());
+    exception.addSuppressed(new IllegalArgumentException());
+
+    assertThat(exception.getSuppressed().length, is(0));
+    assertThat(exception.getCause() instanceof IllegalStateException, is(true));
+  }
+
+  @Test
+  public void testSharedInstanceCorrect() throws Exception {
+    Function<String> suspect = new Function<String>() {
+      @Override public String call() throws Exception {
+        throw INVALID;
+      }
+    };
+
+    Result<String, ResultException> first = Result.of(suspect);
+    Result<String, ResultException> second = Result.of(suspect);
+
+    assertThat(first.error(), sameInstance(INVALID));
+    assertThat(second.error(), sameInstance(INVALID));
+  }
+}
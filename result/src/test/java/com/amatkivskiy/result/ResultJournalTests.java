@@ -0,0 +1,153 @@
+package com.amatkivskiy.result;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ResultJournalTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  private final ResultCodec<Integer, String> codec = new ResultCodec<>(PayloadCodecs.INTEGER, PayloadCodecs.STRING);
+
+  private File directory;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("result-journal")
+        .toFile();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void testReplaysInAppendOrder() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 1024, codec);
+
+    journal.append(1, Result.<Integer, String>success(10));
+    journal.append(2, Result.<Integer, String>failure(OOOH_NOOO));
+    journal.append(3, Result.<Integer, String>success(null));
+
+    assertThat(replay(journal), is(Arrays.asList("1=Success[value=10]",
+                                                 "2=Failure[failure=" + OOOH_NOOO + "]",
+                                                 "3=Success[value=null]")));
+    journal.close();
+  }
+
+  @Test
+  public void testReopenContinuesJournal() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 1024, codec);
+    journal.append(1, Result.<Integer, String>success(10));
+    journal.close();
+
+    ResultJournal<Integer, String> reopened = new ResultJournal<>(directory, 1024, codec);
+    reopened.append(2, Result.<Integer, String>success(20));
+
+    assertThat(replay(reopened), is(Arrays.asList("1=Success[value=10]", "2=Success[value=20]")));
+    reopened.close();
+  }
+
+  @Test
+  public void testRollsSegments() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 64, codec);
+
+    for (int i = 0; i < 100; i++) {
+      journal.append(i, Result.<Integer, String>success(i));
+    }
+    journal.close();
+
+    ResultJournal<Integer, String> reopened = new ResultJournal<>(directory, 64, codec);
+    List<String> replayed = replay(reopened);
+
+    assertThat(directory.listFiles().length > 1, is(true));
+    assertThat(replayed.size(), is(100));
+    assertThat(replayed.get(99), is("99=Success[value=99]"));
+    reopened.close();
+  }
+
+  @Test
+  public void testFailuresKeepsLastOutcome() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 1024, codec);
+
+    journal.append(1, Result.<Integer, String>failure("first"));
+    journal.append(2, Result.<Integer, String>failure("second"));
+    journal.append(3, Result.<Integer, String>success(3));
+    journal.append(1, Result.<Integer, String>success(1));
+    journal.append(2, Result.<Integer, String>failure("retried"));
+
+    Map<Long, String> failures = journal.failures();
+
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(2L), is("retried"));
+    journal.close();
+  }
+
+  @Test
+  public void testTornRecordIsIgnored() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 1024, codec);
+    journal.append(1, Result.<Integer, String>success(10));
+    journal.append(2, Result.<Integer, String>success(20));
+    journal.close();
+
+    // Second record starts after the first one: 8 bytes of header, 8 bytes of id, tag and int.
+    try (RandomAccessFile file = new RandomAccessFile(directory.listFiles()[0], "rw")) {
+      file.seek(21 + 12);
+      file.write(0xFF);
+    }
+
+    ResultJournal<Integer, String> reopened = new ResultJournal<>(directory, 1024, codec);
+    assertThat(replay(reopened), is(Collections.singletonList("1=Success[value=10]")));
+
+    reopened.append(3, Result.<Integer, String>success(30));
+    assertThat(replay(reopened), is(Arrays.asList("1=Success[value=10]", "3=Success[value=30]")));
+    reopened.close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRecordLargerThanSegmentFails() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 32, codec);
+    try {
+      journal.append(1, Result.<Integer, String>failure(OOOH_NOOO + OOOH_NOOO));
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAppendAfterCloseFails() throws Exception {
+    ResultJournal<Integer, String> journal = new ResultJournal<>(directory, 1024, codec);
+    journal.close();
+
+    journal.append(1, Result.<Integer, String>success(10));
+  }
+
+  private static List<String> replay(ResultJournal<Integer, String> journal) throws Exception {
+    final List<String> replayed = new ArrayList<>();
+    journal.replay(new ResultJournal.Visitor<Integer, String>() {
+      @Override public void visit(long recordId, Result<Integer, String> result) {
+        replayed.add(recordId + "=" + result);
+      }
+    });
+    return replayed;
+  }
+}
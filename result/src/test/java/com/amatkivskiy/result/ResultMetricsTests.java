@@ -0,0 +1,143 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResultMetricsTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+
+  private final HistogramResultMetrics metrics = new HistogramResultMetrics();
+
+  private final Function<String> succeeding = new Function<String>() {
+    @Override public String call() throws Exception {
+      return "value";
+    }
+  };
+
+  private final Function<String> failing = new Function<String>() {
+    @Override public String call() throws Exception {
+      throw new IOException(OOOH_NOOO);
+    }
+  };
+
+  @Test
+  public void testDisabledWithoutProvider() throws Exception {
+    assertThat(ResultMetrics.ENABLED, is(false));
+
+    assertThat(ResultMetrics.installed()
+                   .isEnabled(ResultMetrics.Operation.OF), is(false));
+    assertThat(ResultMetrics.installed(HistogramResultMetrics.class), nullValue());
+  }
+
+  @Test
+  public void testCompositeRecordsWithEnabledProvidersOnly() throws Exception {
+    final HistogramResultMetrics other = new HistogramResultMetrics();
+    ResultMetrics mapOnly = new ResultMetrics() {
+      @Override public boolean isEnabled(Operation operation) {
+        return operation == Operation.MAP;
+      }
+
+      @Override public Object begin(Operation operation) {
+        return OOOH_NOOO;
+      }
+
+      @Override public void record(Operation operation, Class<?> callSite, boolean success, Object error,
+                                   long durationNanos, Object context) {
+        assertThat(context, is((Object) OOOH_NOOO));
+        other.record(operation, callSite, success, error, durationNanos, context);
+      }
+    };
+    ResultMetrics composite = new CompositeResultMetrics(new ResultMetrics[]{metrics, mapOnly});
+
+    assertThat(composite.isEnabled(ResultMetrics.Operation.OF), is(true));
+    Instrumentation.of(composite, succeeding);
+
+    assertThat(metrics.callSite(ResultMetrics.Operation.OF, succeeding.getClass())
+                   .successCount(), is(1L));
+    assertThat(other.callSites()
+                   .isEmpty(), is(true));
+  }
+
+  @Test
+  public void testOfRecordsByCallSite() throws Exception {
+    Result<String, Exception> success = Instrumentation.of(metrics, succeeding);
+    Instrumentation.of(metrics, succeeding);
+    Result<String, Exception> failure = Instrumentation.of(metrics, failing);
+
+    assertThat(success.value(), is("value"));
+    assertThat(failure.error()
+                   .getMessage(), is(OOOH_NOOO));
+
+    CallSiteMetrics succeedingMetrics = metrics.callSite(ResultMetrics.Operation.OF, succeeding.getClass());
+    assertThat(succeedingMetrics.successCount(), is(2L));
+    assertThat(succeedingMetrics.failureCount(), is(0L));
+    assertThat(succeedingMetrics.latency()
+                   .count(), is(2L));
+
+    CallSiteMetrics failingMetrics = metrics.callSite(ResultMetrics.Operation.OF, failing.getClass());
+    assertThat(failingMetrics.failureCounts()
+                   .get(IOException.class), is(1L));
+    assertThat(metrics.callSites()
+                   .size(), is(2));
+  }
+
+  @Test
+  public void testOrFailWithAndOrDefaultRecordFunctionFailure() throws Exception {
+    Result<String, String> failure = Instrumentation.orFailWith(metrics, failing, OOOH_NOOO);
+    Result<String, String> fallback = Instrumentation.orDefault(metrics, failing, "fallback");
+
+    assertThat(failure.error(), is(OOOH_NOOO));
+    assertThat(fallback.value(), is("fallback"));
+    assertThat(metrics.callSite(ResultMetrics.Operation.OR_FAIL_WITH, failing.getClass())
+                   .failureCounts()
+                   .get(IOException.class), is(1L));
+    assertThat(metrics.callSite(ResultMetrics.Operation.OR_DEFAULT, failing.getClass())
+                   .failureCounts()
+                   .get(IOException.class), is(1L));
+  }
+
+  @Test
+  public void testMapRecordsThrownException() throws Exception {
+    Transformer<String, Integer> parse = new Transformer<String, Integer>() {
+      @Override public Integer apply(String value) {
+        return Integer.parseInt(value);
+      }
+    };
+
+    assertThat(Instrumentation.map(metrics, Result.<String, String>success("42"), parse)
+                   .value(), is(42));
+    try {
+      Instrumentation.map(metrics, Result.<String, String>success("x"), parse);
+      fail();
+    } catch (NumberFormatException expected) {
+    }
+
+    CallSiteMetrics parseMetrics = metrics.callSite(ResultMetrics.Operation.MAP, parse.getClass());
+    assertThat(parseMetrics.successCount(), is(1L));
+    assertThat(parseMetrics.failureCounts()
+                   .get(NumberFormatException.class), is(1L));
+  }
+
+  @Test
+  public void testFlatMapRecordsResultingFailure() throws Exception {
+    Transformer<Result<String, String>, Result<Integer, String>> fail =
+        new Transformer<Result<String, String>, Result<Integer, String>>() {
+          @Override public Result<Integer, String> apply(Result<String, String> value) {
+            return Result.failure(OOOH_NOOO);
+          }
+        };
+
+    Instrumentation.flatMap(metrics, Result.<String, String>success("42"), fail);
+
+    CallSiteMetrics failMetrics = metrics.callSite(ResultMetrics.Operation.FLAT_MAP, fail.getClass());
+    assertThat(failMetrics.failureCounts()
+                   .get(String.class), is(1L));
+    assertThat(metrics.callSite(ResultMetrics.Operation.MAP, fail.getClass()), nullValue());
+  }
+}
@@ -0,0 +1,153 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultParsersTests {
+  private enum Color {
+    RED, GREEN, BLUE
+  }
+
+  @Test
+  public void testParseIntCorrect() throws Exception {
+    assertThat(ResultParsers.parseInt("42")
+                   .value(), is(42));
+    assertThat(ResultParsers.parseInt("-17")
+                   .value(), is(-17));
+    assertThat(ResultParsers.parseInt("+007")
+                   .value(), is(7));
+    assertThat(ResultParsers.parseInt("2147483647")
+                   .value(), is(Integer.MAX_VALUE));
+    assertThat(ResultParsers.parseInt("-2147483648")
+                   .value(), is(Integer.MIN_VALUE));
+  }
+
+  @Test
+  public void testParseIntFailures() throws Exception {
+    assertThat(ResultParsers.parseInt("")
+                   .error(), sameInstance(ResultParsers.EMPTY));
+    assertThat(ResultParsers.parseInt("-")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseInt("invalid")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseInt(" 1")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseInt("2147483648")
+                   .error(), sameInstance(ResultParsers.OVERFLOW));
+    assertThat(ResultParsers.parseInt("-2147483649")
+                   .error(), sameInstance(ResultParsers.OVERFLOW));
+    assertThat(ResultParsers.parseInt("99999999999x")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseInt("invalid"), sameInstance(ResultParsers.parseInt("x")));
+  }
+
+  @Test
+  public void testParseIntRange() throws Exception {
+    StringBuilder line = new StringBuilder("id=123;count=-45");
+
+    assertThat(ResultParsers.parseInt(line, 3, 6)
+                   .value(), is(123));
+    assertThat(ResultParsers.parseInt(line, 13, 16)
+                   .value(), is(-45));
+    assertThat(ResultParsers.parseInt(line, 6, 6)
+                   .error(), sameInstance(ResultParsers.EMPTY));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testParseIntInvalidRangeFails() throws Exception {
+    ResultParsers.parseInt("123", 2, 4);
+  }
+
+  @Test
+  public void testParseLongCorrect() throws Exception {
+    assertThat(ResultParsers.parseLong("9223372036854775807")
+                   .value(), is(Long.MAX_VALUE));
+    assertThat(ResultParsers.parseLong("-9223372036854775808")
+                   .value(), is(Long.MIN_VALUE));
+    assertThat(ResultParsers.parseLong("9223372036854775808")
+                   .error(), sameInstance(ResultParsers.OVERFLOW));
+    assertThat(ResultParsers.parseLong("12L")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+  }
+
+  @Test
+  public void testParseDoubleMatchesJdk() throws Exception {
+    String[] inputs = {
+        "0", "-0", "1", "-1.5", "3.141592653589793", "0.1", ".5", "5.", "1e10", "1E-5", "+2.5e+3",
+        "123456789012345678", "1234567890123456789012", "0.000000000000000000000000001", "1e22", "1e23",
+        "4.9e-324", "1.7976931348623157e308", "1e400", "1e-400", "9007199254740993", "NaN", "-Infinity",
+        "100000000000000000000000000000000", "0.30000000000000004"
+    };
+
+    for (String input : inputs) {
+      double expected = Double.parseDouble(input);
+      double actual = ResultParsers.parseDouble(input)
+          .value();
+      assertThat(input, Double.doubleToLongBits(actual), is(Double.doubleToLongBits(expected)));
+    }
+  }
+
+  @Test
+  public void testParseDoubleFailures() throws Exception {
+    String[] inputs = {"-", ".", "e5", "1e", "1e+", "1.2.3", "1f", "0x1p3", " 1", "nan", "--1"};
+
+    assertThat(ResultParsers.parseDouble("")
+                   .error(), sameInstance(ResultParsers.EMPTY));
+    for (String input : inputs) {
+      assertThat(input, ResultParsers.parseDouble(input)
+          .error(), sameInstance(ResultParsers.MALFORMED));
+    }
+  }
+
+  @Test
+  public void testParseBooleanCorrect() throws Exception {
+    assertThat(ResultParsers.parseBoolean("true")
+                   .value(), is(true));
+    assertThat(ResultParsers.parseBoolean("FALSE")
+                   .value(), is(false));
+    assertThat(ResultParsers.parseBoolean("True"), sameInstance(ResultParsers.parseBoolean("true")));
+    assertThat(ResultParsers.parseBoolean("yes")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+  }
+
+  @Test
+  public void testParseUuidCorrect() throws Exception {
+    UUID uuid = UUID.randomUUID();
+
+    assertThat(ResultParsers.parseUuid(uuid.toString())
+                   .value(), is(uuid));
+    assertThat(ResultParsers.parseUuid(uuid.toString()
+                                           .toUpperCase())
+                   .value(), is(uuid));
+    assertThat(ResultParsers.parseUuid("[" + uuid + "]", 1, 37)
+                   .value(), is(uuid));
+  }
+
+  @Test
+  public void testParseUuidFailures() throws Exception {
+    assertThat(ResultParsers.parseUuid("1-2-3-4-5")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseUuid("123e4567-e89b-12d3-a456-42661417400g")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseUuid("123e4567-e89b-12d3-a456x426614174000")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+  }
+
+  @Test
+  public void testParseEnumCorrect() throws Exception {
+    assertThat(ResultParsers.parseEnum(Color.class, "GREEN")
+                   .value(), is(Color.GREEN));
+    assertThat(ResultParsers.parseEnum(Color.class, "color=BLUE", 6, 10)
+                   .value(), is(Color.BLUE));
+    assertThat(ResultParsers.parseEnum(Color.class, "RED"), sameInstance(ResultParsers.parseEnum(Color.class, "RED")));
+    assertThat(ResultParsers.parseEnum(Color.class, "red")
+                   .error(), sameInstance(ResultParsers.MALFORMED));
+    assertThat(ResultParsers.parseEnum(Color.class, "")
+                   .error(), sameInstance(ResultParsers.EMPTY));
+  }
+}
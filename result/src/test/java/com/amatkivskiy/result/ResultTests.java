@@ -3,11 +3,20 @@ package com.amatkivskiy.result;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -202,6 +211,18 @@ public class ResultTests {
     assertThat(result.error(), is(OOOH_NOOO));
   }
 
+  @Test public void testFailureMapReturnsSameInstance() throws Exception {
+    Result<Integer, String> failure = Result.failure(OOOH_NOOO);
+
+    Result<String, String> result = failure.map(new Transformer<Integer, String>() {
+      @Override public String apply(Integer value) {
+        return OOOH_YEAH;
+      }
+    });
+
+    assertThat(result, sameInstance((Object) failure));
+  }
+
   @Test public void testSuccessFlatMapCorrect() throws Exception {
     Result<Integer, Exception> result = Result.of(OOOH_YEAH)
         .flatMap(new Transformer<Result<String, Object>, Result<Integer, Exception>>() {
@@ -245,6 +266,197 @@ public class ResultTests {
     assertThat(Result.failure(null).isSuccessfulNonEmpty(), is(false));
   }
 
+  @Test public void testEmptyResultsAreShared() throws Exception {
+    assertThat(Result.success(null), sameInstance(Result.success(null)));
+    assertThat(Result.failure(null), sameInstance(Result.failure(null)));
+    assertThat(Result.of((Object) null), sameInstance(Result.success(null)));
+  }
+
+  @Test public void testCommonSuccessesAreShared() throws Exception {
+    assertThat(Result.success(true), sameInstance(Result.success(true)));
+    assertThat(Result.success(false), sameInstance(Result.success(false)));
+    assertThat(Result.success(-128), sameInstance(Result.success(-128)));
+    assertThat(Result.success(127), sameInstance(Result.success(127)));
+
+    assertThat(Result.success(128), not(sameInstance(Result.success(128))));
+    assertThat(Result.success(128), is(Result.success(128)));
+    assertThat(Result.<Integer, Object>success(5).value(), is(5));
+  }
+
+  @Test public void testAttemptCorrect() throws Exception {
+    Result<String, String> result = Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        return OOOH_YEAH;
+      }
+    });
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(OOOH_YEAH));
+  }
+
+  @Test public void testAttemptFailureCorrect() throws Exception {
+    Result<String, String> result = Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        failure.accept(OOOH_NOOO);
+        failure.accept(OOOH_YEAH);
+        return OOOH_YEAH;
+      }
+    });
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.value(), is(nullValue()));
+    assertThat(result.error(), is(OOOH_NOOO));
+  }
+
+  @Test public void testAttemptEmptyFailureCorrect() throws Exception {
+    Result<String, String> result = Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        failure.accept(null);
+        return OOOH_YEAH;
+      }
+    });
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.isEmpty(), is(true));
+  }
+
+  @Test public void testAttemptAfterFailureStartsClean() throws Exception {
+    Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        failure.accept(OOOH_NOOO);
+        return null;
+      }
+    });
+
+    Result<String, String> result = Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        return OOOH_YEAH;
+      }
+    });
+
+    assertThat(result.value(), is(OOOH_YEAH));
+  }
+
+  @Test public void testNestedAttemptsKeepOwnFailures() throws Exception {
+    final AtomicReference<Result<String, String>> inner = new AtomicReference<>();
+    Result<String, String> outer = Result.attempt(new Attempt<String, String>() {
+      @Override public String call(Consumer<String> failure) {
+        failure.accept(OOOH_NOOO);
+        inner.set(Result.attempt(new Attempt<String, String>() {
+          @Override public String call(Consumer<String> failure) {
+            return OOOH_YEAH;
+          }
+        }));
+        return null;
+      }
+    });
+
+    assertThat(outer.error(), is(OOOH_NOOO));
+    assertThat(inner.get()
+                   .value(), is(OOOH_YEAH));
+  }
+
+  @Test public void testRetrySucceedsAfterFailures() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    Result<String, RetryException> result = Result.retry(new Function<String>() {
+      @Override public String call() throws Exception {
+        if (calls.incrementAndGet() < 3) throw new IllegalStateException(OOOH_NOOO);
+        return OOOH_YEAH;
+      }
+    }, RetryPolicy.fixed(1, TimeUnit.MILLISECONDS));
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(OOOH_YEAH));
+    assertThat(calls.get(), is(3));
+  }
+
+  @Test public void testRetryKeepsAllFailures() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    Result<String, RetryException> result = Result.retry(new Function<String>() {
+      @Override public String call() throws Exception {
+        throw new IllegalStateException(String.valueOf(calls.incrementAndGet()));
+      }
+    }, RetryPolicy.exponential(1, 2, TimeUnit.MILLISECONDS)
+        .withMaxAttempts(4));
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.error()
+                   .failures()
+                   .size(), is(4));
+    assertThat(result.error()
+                   .failures()
+                   .get(0)
+                   .getMessage(), is("1"));
+    assertThat(result.error()
+                   .getCause()
+                   .getMessage(), is("4"));
+  }
+
+  @Test public void testRetryStopsOnNonRetryableException() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    Result<String, RetryException> result = Result.retry(new Function<String>() {
+      @Override public String call() throws Exception {
+        calls.incrementAndGet();
+        throw new IllegalArgumentException(OOOH_NOOO);
+      }
+    }, RetryPolicy.fixed(1, TimeUnit.MILLISECONDS)
+        .retryIf(new Transformer<Exception, Boolean>() {
+          @Override public Boolean apply(Exception value) {
+            return !(value instanceof IllegalArgumentException);
+          }
+        }));
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test public void testRetryStopsAtDeadline() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+
+    Result<String, RetryException> result = Result.retry(new Function<String>() {
+      @Override public String call() throws Exception {
+        calls.incrementAndGet();
+        throw new IllegalStateException(OOOH_NOOO);
+      }
+    }, RetryPolicy.fixed(100, TimeUnit.MILLISECONDS)
+        .withMaxAttempts(10)
+        .withDeadline(250, TimeUnit.MILLISECONDS));
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(calls.get(), is(3));
+  }
+
+  @Test public void testScheduledRetryCorrect() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicReference<Result<String, RetryException>> result = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    try {
+      Result.retry(new Function<String>() {
+        @Override public String call() throws Exception {
+          if (calls.incrementAndGet() < 2) throw new IllegalStateException(OOOH_NOOO);
+          return OOOH_YEAH;
+        }
+      }, RetryPolicy.fixed(1, TimeUnit.MILLISECONDS), scheduler, new Consumer<Result<String, RetryException>>() {
+        @Override public void accept(Result<String, RetryException> value) {
+          result.set(value);
+          done.countDown();
+        }
+      });
+
+      assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+      assertThat(result.get()
+                     .value(), is(OOOH_YEAH));
+      assertThat(calls.get(), is(2));
+    } finally {
+      scheduler.shutdown();
+    }
+  }
+
   static class DefaultThrowerImpl<T> implements Function<T> {
     @Override public T call() {
       return null;
@@ -0,0 +1,292 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ResultsTests {
+  private static final String OOOH_NOOO = "Oooh! Nooo!";
+  private static final String OOOH_YEAH = "Oooh! Yeah!";
+
+  private static final Transformer<String, Result<Integer, String>> PARSE =
+      new Transformer<String, Result<Integer, String>>() {
+        @Override public Result<Integer, String> apply(String value) {
+          try {
+            return Result.success(Integer.parseInt(value));
+          } catch (NumberFormatException e) {
+            return Result.failure(value);
+          }
+        }
+      };
+
+  @Test
+  public void testSequenceCorrect() throws Exception {
+    List<Result<Integer, String>> results = Arrays.asList(Result.<Integer, String>success(1),
+                                                          Result.<Integer, String>success(2));
+
+    Result<List<Integer>, String> result = Results.sequence(results);
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void testSequenceEmptyCorrect() throws Exception {
+    Result<List<Integer>, String> result = Results.sequence(Collections.<Result<Integer, String>>emptyList());
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testSequenceStopsAtFirstFailure() throws Exception {
+    List<Result<Integer, String>> results = Arrays.asList(Result.<Integer, String>success(1),
+                                                          Result.<Integer, String>failure(OOOH_NOOO),
+                                                          Result.<Integer, String>failure(OOOH_YEAH));
+
+    Result<List<Integer>, String> result = Results.sequence(results);
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.error(), is(OOOH_NOOO));
+    assertThat((Object) result, sameInstance((Object) results.get(1)));
+  }
+
+  @Test
+  public void testSequenceAllCollectsErrors() throws Exception {
+    List<Result<Integer, String>> results = Arrays.asList(Result.<Integer, String>failure(OOOH_NOOO),
+                                                          Result.<Integer, String>success(1),
+                                                          Result.<Integer, String>failure(OOOH_YEAH));
+
+    Result<List<Integer>, List<String>> result = Results.sequenceAll(results);
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.error(), is(Arrays.asList(OOOH_NOOO, OOOH_YEAH)));
+  }
+
+  @Test
+  public void testTraverseCorrect() throws Exception {
+    Result<List<Integer>, String> result = Results.traverse(Arrays.asList("1", "2", "3"), PARSE);
+
+    assertThat(result.value(), is(Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  public void testTraverseStopsAtFirstFailure() throws Exception {
+    Result<List<Integer>, String> result = Results.traverse(Arrays.asList("1", "a", "b"),
+        new Transformer<String, Result<Integer, String>>() {
+          @Override public Result<Integer, String> apply(String value) {
+            if ("b".equals(value)) fail("transformer should not be called after failure.");
+            return PARSE.apply(value);
+          }
+        });
+
+    assertThat(result.error(), is("a"));
+  }
+
+  @Test
+  public void testTraverseReturnsOriginalFailure() throws Exception {
+    final Result<Integer, String> failure = Result.failure(OOOH_NOOO);
+
+    Result<List<Integer>, String> result = Results.traverse(Arrays.asList("1", "2"),
+        new Transformer<String, Result<Integer, String>>() {
+          @Override public Result<Integer, String> apply(String value) {
+            return "2".equals(value) ? failure : PARSE.apply(value);
+          }
+        });
+
+    assertThat((Object) result, sameInstance((Object) failure));
+  }
+
+  @Test
+  public void testTraverseAllCorrect() throws Exception {
+    Result<List<Integer>, List<String>> success = Results.traverseAll(Arrays.asList("1", "2"), PARSE);
+    assertThat(success.value(), is(Arrays.asList(1, 2)));
+
+    Result<List<Integer>, List<String>> failure = Results.traverseAll(Arrays.asList("a", "1", "b"), PARSE);
+    assertThat(failure.isSuccess(), is(false));
+    assertThat(failure.error(), is(Arrays.asList("a", "b")));
+  }
+
+  @Test
+  public void testTraverseParallelKeepsOrder() throws Exception {
+    List<String> inputs = numbers(10000);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Result<List<Integer>, String> result = Results.traverseParallel(inputs, PARSE, pool);
+
+      assertThat(result.isSuccess(), is(true));
+      assertThat(result.value().size(), is(10000));
+      for (int i = 0; i < 10000; i++) {
+        assertThat(result.value().get(i), is(i));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testTraverseParallelReturnsFirstFailureInOrder() throws Exception {
+    List<String> inputs = numbers(10000);
+    inputs.set(7000, "b");
+    inputs.set(3000, "a");
+    final AtomicInteger calls = new AtomicInteger();
+    Transformer<String, Result<Integer, String>> counting = new Transformer<String, Result<Integer, String>>() {
+      @Override public Result<Integer, String> apply(String value) {
+        calls.incrementAndGet();
+        return PARSE.apply(value);
+      }
+    };
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(Results.traverseParallel(inputs, counting, pool).error(), is("a"));
+      assertThat(Results.traverseParallel(inputs, counting, executor).error(), is("a"));
+      assertThat(calls.get() <= 20000, is(true));
+    } finally {
+      pool.shutdown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testTraverseAllParallelCollectsErrorsInOrder() throws Exception {
+    List<String> inputs = numbers(1000);
+    inputs.set(900, "c");
+    inputs.set(10, "a");
+    inputs.set(500, "b");
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(Results.traverseAllParallel(inputs, PARSE, pool).error(), is(Arrays.asList("a", "b", "c")));
+      assertThat(Results.traverseAllParallel(inputs, PARSE, executor).error(), is(Arrays.asList("a", "b", "c")));
+      assertThat(Results.traverseAllParallel(numbers(1000), PARSE, executor).value().size(), is(1000));
+    } finally {
+      pool.shutdown();
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testTraverseParallelPropagatesException() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Results.traverseParallel(numbers(100), new Transformer<String, Result<Integer, String>>() {
+        @Override public Result<Integer, String> apply(String value) {
+          throw new IllegalStateException(OOOH_NOOO);
+        }
+      }, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testAllCorrect() throws Exception {
+    Result<List<String>, Exception> result = Results.all(Arrays.asList(delayed(OOOH_YEAH, 50), delayed(OOOH_NOOO, 0)),
+                                                         5, TimeUnit.SECONDS);
+
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.value(), is(Arrays.asList(OOOH_YEAH, OOOH_NOOO)));
+  }
+
+  @Test
+  public void testAllFailsFastAndCancelsOthers() throws Exception {
+    final AtomicInteger finished = new AtomicInteger();
+    Function<String> slow = new Function<String>() {
+      @Override public String call() throws Exception {
+        Thread.sleep(500);
+        finished.incrementAndGet();
+        return OOOH_YEAH;
+      }
+    };
+
+    long start = System.nanoTime();
+    Result<List<String>, Exception> result = Results.all(Arrays.asList(slow, failing(), slow), 5, TimeUnit.SECONDS);
+
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.error(), instanceOf(IllegalStateException.class));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 400, is(true));
+
+    Thread.sleep(1000);
+    assertThat(finished.get(), is(0));
+  }
+
+  @Test
+  public void testAllTimesOut() throws Exception {
+    Result<List<String>, Exception> result = Results.all(Arrays.asList(delayed(OOOH_YEAH, 10000)), 50,
+                                                         TimeUnit.MILLISECONDS);
+
+    assertThat(result.error(), instanceOf(TimeoutException.class));
+  }
+
+  @Test
+  public void testAnyReturnsFirstSuccess() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Result<String, Exception> result = Results.any(
+          Arrays.asList(failing(), delayed(OOOH_NOOO, 10000), delayed(OOOH_YEAH, 10)), 5, TimeUnit.SECONDS, executor);
+
+      assertThat(result.isSuccess(), is(true));
+      assertThat(result.value(), is(OOOH_YEAH));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testAnyFailsIfAllFail() throws Exception {
+    Result<String, Exception> result = Results.any(Arrays.asList(failing(), failing()), 5, TimeUnit.SECONDS);
+
+    assertThat(result.error(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  public void testAnyTimesOut() throws Exception {
+    Result<String, Exception> result = Results.any(Arrays.asList(delayed(OOOH_YEAH, 10000)), 50,
+                                                   TimeUnit.MILLISECONDS);
+
+    assertThat(result.error(), instanceOf(TimeoutException.class));
+  }
+
+  private static Function<String> delayed(final String value, final long millis) {
+    return new Function<String>() {
+      @Override public String call() throws Exception {
+        Thread.sleep(millis);
+        return value;
+      }
+    };
+  }
+
+  private static Function<String> failing() {
+    return new Function<String>() {
+      @Override public String call() throws Exception {
+        throw new IllegalStateException(OOOH_NOOO);
+      }
+    };
+  }
+
+  private static List<String> numbers(int count) {
+    List<String> numbers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      numbers.add(String.valueOf(i));
+    }
+    return numbers;
+  }
+}
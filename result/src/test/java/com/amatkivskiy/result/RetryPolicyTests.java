@@ -0,0 +1,53 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RetryPolicyTests {
+  @Test
+  public void testFixedDelayCorrect() throws Exception {
+    RetryPolicy policy = RetryPolicy.fixed(10, TimeUnit.MILLISECONDS);
+
+    assertThat(policy.delayNanos(1), is(TimeUnit.MILLISECONDS.toNanos(10)));
+    assertThat(policy.delayNanos(5), is(TimeUnit.MILLISECONDS.toNanos(10)));
+    assertThat(policy.maxAttempts(), is(3));
+  }
+
+  @Test
+  public void testExponentialDelayCorrect() throws Exception {
+    RetryPolicy policy = RetryPolicy.exponential(1, 5, TimeUnit.MILLISECONDS);
+
+    assertThat(policy.delayNanos(1), is(TimeUnit.MILLISECONDS.toNanos(1)));
+    assertThat(policy.delayNanos(2), is(TimeUnit.MILLISECONDS.toNanos(2)));
+    assertThat(policy.delayNanos(3), is(TimeUnit.MILLISECONDS.toNanos(4)));
+    assertThat(policy.delayNanos(4), is(TimeUnit.MILLISECONDS.toNanos(5)));
+    assertThat(policy.delayNanos(100), is(TimeUnit.MILLISECONDS.toNanos(5)));
+  }
+
+  @Test
+  public void testJitterStaysInRange() throws Exception {
+    RetryPolicy policy = RetryPolicy.fixed(100, TimeUnit.NANOSECONDS)
+        .withJitter(0.5);
+
+    for (int i = 0; i < 1000; i++) {
+      long delay = policy.delayNanos(1);
+      assertThat(delay >= 50 && delay <= 100, is(true));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidJitterFails() throws Exception {
+    RetryPolicy.fixed(1, TimeUnit.SECONDS)
+        .withJitter(1.5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxAttemptsFails() throws Exception {
+    RetryPolicy.fixed(1, TimeUnit.SECONDS)
+        .withMaxAttempts(0);
+  }
+}
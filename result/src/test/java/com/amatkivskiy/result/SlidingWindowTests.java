@@ -0,0 +1,88 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SlidingWindowTests {
+  private static final int BUCKETS = 10;
+  private static final long BUCKET_NANOS = 100;
+
+  private final SlidingWindow window = new SlidingWindow(BUCKETS, BUCKETS * BUCKET_NANOS);
+
+  @Test
+  public void testExpiredBucketIsReplaced() throws Exception {
+    window.record(true, 0);
+    window.record(false, 0);
+    window.record(true, BUCKETS * BUCKET_NANOS);
+
+    assertThat(window.successes(BUCKETS * BUCKET_NANOS), is(1L));
+    assertThat(window.failures(BUCKETS * BUCKET_NANOS), is(0L));
+  }
+
+  @Test
+  public void testLateRecordCountsInNewerBucket() throws Exception {
+    window.record(true, BUCKETS * BUCKET_NANOS);
+    window.record(true, 0);
+
+    assertThat(window.successes(BUCKETS * BUCKET_NANOS), is(2L));
+  }
+
+  @Test
+  public void testUnrecordSkipsReplacedBucket() throws Exception {
+    window.record(true, 0);
+    window.record(true, BUCKETS * BUCKET_NANOS);
+    window.unrecord(true, 0);
+
+    assertThat(window.successes(BUCKETS * BUCKET_NANOS), is(1L));
+  }
+
+  @Test
+  public void testConcurrentRecordsDuringRolloverAreNotLost() throws Exception {
+    final int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 1; round <= 200; round++) {
+        final long now = round * BUCKETS * BUCKET_NANOS;
+        final CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        for (int i = 0; i < threads; i++) {
+          futures[i] = executor.submit(new Callable<Void>() {
+            @Override public Void call() throws Exception {
+              start.await();
+              for (int j = 0; j < 10; j++) {
+                window.record(true, now);
+              }
+              return null;
+            }
+          });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+          future.get();
+        }
+
+        assertThat(window.successes(now), is((long) threads * 10));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testResetClearsWindow() throws Exception {
+    window.record(true, 0);
+    window.record(false, 0);
+    window.reset();
+
+    assertThat(window.successes(0), is(0L));
+    assertThat(window.failures(0), is(0L));
+  }
+}
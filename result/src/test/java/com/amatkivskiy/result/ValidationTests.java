@@ -0,0 +1,188 @@
+package com.amatkivskiy.result;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ValidationTests {
+  private static final Validation.Combiner3<String, String, Integer, String> JOIN =
+      new Validation.Combiner3<String, String, Integer, String>() {
+        @Override public String apply(String v1, String v2, Integer v3) {
+          return v1 + v2 + v3;
+        }
+      };
+
+  @Test
+  public void testValidCorrect() throws Exception {
+    Validation<String, String> validation = Validation.valid("one");
+
+    assertThat(validation.isValid(), is(true));
+    assertThat(validation.value(), is("one"));
+    assertThat(validation.errorCount(), is(0));
+    assertThat(validation.errors()
+                   .isEmpty(), is(true));
+    assertThat(validation.toString(), is("Valid[value=one]"));
+  }
+
+  @Test
+  public void testInvalidCorrect() throws Exception {
+    Validation<String, String> validation = Validation.invalid("error");
+
+    assertThat(validation.isValid(), is(false));
+    assertThat(validation.value(), is(nullValue()));
+    assertThat(validation.errors(), is(Collections.singletonList("error")));
+    assertThat(validation.toString(), is("Invalid[errors=[error]]"));
+  }
+
+  @Test
+  public void testCombineValidCorrect() throws Exception {
+    Validation<String, String> validation = Validation.combine(Validation.<String, String>valid("a"),
+                                                               Validation.<String, String>valid("b"),
+                                                               Validation.<Integer, String>valid(1), JOIN);
+
+    assertThat(validation.isValid(), is(true));
+    assertThat(validation.value(), is("ab1"));
+  }
+
+  @Test
+  public void testCombineCollectsAllErrorsInOrder() throws Exception {
+    Validation<String, String> validation = Validation.combine(Validation.<String, String>invalid("first"),
+                                                               Validation.<String, String>valid("b"),
+                                                               Validation.<Integer, String>invalid("second"),
+        new Validation.Combiner3<String, String, Integer, String>() {
+          @Override public String apply(String v1, String v2, Integer v3) {
+            fail("combiner should not be called.");
+            return null;
+          }
+        });
+
+    assertThat(validation.isValid(), is(false));
+    assertThat(validation.errors(), is(Arrays.asList("first", "second")));
+  }
+
+  @Test
+  public void testCombineEightCorrect() throws Exception {
+    Validation<Integer, String> one = Validation.valid(1);
+    Validation<Integer, String> combined = Validation.combine(one, one, one, one, one, one, one, one,
+        new Validation.Combiner8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>() {
+          @Override public Integer apply(Integer v1, Integer v2, Integer v3, Integer v4, Integer v5, Integer v6,
+                                         Integer v7, Integer v8) {
+            return v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+          }
+        });
+
+    assertThat(combined.value(), is(8));
+  }
+
+  @Test
+  public void testAndAppendsErrors() throws Exception {
+    Validation<String, String> valid = Validation.valid("value");
+
+    assertThat(valid.and(Validation.<Integer, String>valid(1)), sameInstance(valid));
+
+    Validation<String, String> validation = valid.and(Validation.<Integer, String>invalid("one"))
+        .and(Validation.<Integer, String>invalid("two"))
+        .and(Validation.<String, String>invalid("three").and(Validation.<String, String>invalid("four")));
+
+    assertThat(validation.isValid(), is(false));
+    assertThat(validation.errorCount(), is(4));
+    assertThat(validation.errors(), is(Arrays.asList("one", "two", "three", "four")));
+  }
+
+  @Test
+  public void testAppendingToEarlierValidationKeepsLaterOnes() throws Exception {
+    Validation<String, String> shared = Validation.<String, String>invalid("one")
+        .and(Validation.<String, String>invalid("two"));
+
+    Validation<String, String> left = shared.and(Validation.<String, String>invalid("left"));
+    Validation<String, String> right = shared.and(Validation.<String, String>invalid("right"));
+
+    assertThat(shared.errors(), is(Arrays.asList("one", "two")));
+    assertThat(left.errors(), is(Arrays.asList("one", "two", "left")));
+    assertThat(right.errors(), is(Arrays.asList("one", "two", "right")));
+  }
+
+  @Test
+  public void testCombineAllCollectsManyErrors() throws Exception {
+    List<Validation<Integer, String>> validations = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      if (i % 3 == 0) {
+        validations.add(Validation.<Integer, String>valid(i));
+      } else {
+        validations.add(Validation.<Integer, String>invalid("field " + i));
+        expected.add("field " + i);
+      }
+    }
+
+    Validation<List<Integer>, String> combined = Validation.combineAll(validations);
+
+    assertThat(combined.errorCount(), is(expected.size()));
+    assertThat(combined.errors(), is(expected));
+  }
+
+  @Test
+  public void testCombineAllCorrect() throws Exception {
+    List<Validation<Integer, String>> valid = Arrays.asList(Validation.<Integer, String>valid(1),
+                                                            Validation.<Integer, String>valid(2));
+    assertThat(Validation.combineAll(valid)
+                   .value(), is(Arrays.asList(1, 2)));
+
+    List<Validation<Integer, String>> invalid = Arrays.asList(Validation.<Integer, String>invalid("one"),
+                                                              Validation.<Integer, String>valid(2),
+                                                              Validation.<Integer, String>invalid("two"));
+    assertThat(Validation.combineAll(invalid)
+                   .errors(), is(Arrays.asList("one", "two")));
+
+    assertThat(Validation.combineAll(Collections.<Validation<Integer, String>>emptyList())
+                   .value()
+                   .isEmpty(), is(true));
+  }
+
+  @Test
+  public void testMapCorrect() throws Exception {
+    Transformer<String, Integer> length = new Transformer<String, Integer>() {
+      @Override public Integer apply(String value) {
+        return value.length();
+      }
+    };
+
+    assertThat(Validation.<String, String>valid("one")
+                   .map(length)
+                   .value(), is(3));
+
+    Validation<String, String> invalid = Validation.invalid("error");
+    assertThat((Object) invalid.map(length), sameInstance((Object) invalid));
+  }
+
+  @Test
+  public void testConversionCorrect() throws Exception {
+    assertThat(Validation.from(Result.<String, String>success("one")), is(Validation.<String, String>valid("one")));
+    assertThat(Validation.from(Result.<String, String>failure("error")),
+               is(Validation.<String, String>invalid("error")));
+
+    Result<String, List<String>> result = Validation.<String, String>invalid("one")
+        .and(Validation.<String, String>invalid("two"))
+        .toResult();
+    assertThat(result.error(), is(Arrays.asList("one", "two")));
+    assertThat(Validation.<String, String>valid("one")
+                   .toResult()
+                   .value(), is("one"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testErrorsOutOfBoundsFails() throws Exception {
+    Validation.<String, String>invalid("one")
+        .errors()
+        .get(1);
+  }
+}
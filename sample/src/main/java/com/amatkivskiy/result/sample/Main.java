@@ -1,6 +1,7 @@
 package com.amatkivskiy.result.sample;
 
 import com.amatkivskiy.result.Result;
+import com.amatkivskiy.result.ResultParsers;
 
 public class Main {
   public static void mainSimple(String[] args) {
@@ -12,6 +13,8 @@ public class Main {
     Result.of(() -> "success");
     Result.orDefault(() -> Integer.parseInt("invalid"), -1);
     Result.orFailWith(() -> Integer.parseInt("invalid"), new IllegalArgumentException());
+    ResultParsers.parseInt("invalid")
+        .or(-1);
 
     System.out.println("Transforming `Result`");
     Result.of("success")